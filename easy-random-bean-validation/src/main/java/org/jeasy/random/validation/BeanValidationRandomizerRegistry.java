@@ -32,22 +32,39 @@ import org.jeasy.random.util.ReflectionUtils;
 import javax.validation.constraints.*;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A registry of randomizers to support fields annotated with the <a href="http://beanvalidation.org/">JSR 349</a> annotations.
  *
+ * The randomizer of a field is resolved once and reused for all instances declaring
+ * the field, including the absence of randomizer for fields without constraints.
+ *
+ * <strong>This changes the values generated with a given seed:</strong> each constrained field
+ * now continues a single seeded sequence across all the instances declaring it, instead of being
+ * generated by a randomizer freshly seeded (from the random of its annotation handler) each time
+ * a value is generated. Values generated with a given seed are still reproducible, but they are
+ * different from the ones generated with the same seed by versions not caching randomizers.
+ *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
 @Priority(-2)
 public class BeanValidationRandomizerRegistry implements RandomizerRegistry {
 
+    private static final Randomizer<?> NO_RANDOMIZER = () -> null;
+
     protected Map<Class<? extends Annotation>, BeanValidationAnnotationHandler> annotationHandlers = new HashMap<>();
 
+    private final Map<Field, Randomizer<?>> randomizersByField = new ConcurrentHashMap<>();
+
     @Override
     public void init(EasyRandomParameters parameters) {
+        randomizersByField.clear();
         long seed = parameters.getSeed();
         Charset charset = parameters.getCharset();
         annotationHandlers.put(AssertFalse.class, new AssertFalseAnnotationHandler());
@@ -73,16 +90,24 @@ public class BeanValidationRandomizerRegistry implements RandomizerRegistry {
 
     @Override
     public Randomizer<?> getRandomizer(final Field field) {
+        Randomizer<?> randomizer = randomizersByField.computeIfAbsent(field, this::resolveRandomizer);
+        return randomizer == NO_RANDOMIZER ? null : randomizer;
+    }
 
+    private Randomizer<?> resolveRandomizer(final Field field) {
+        // the read method is resolved once for all annotations
+        Optional<Method> readMethod = ReflectionUtils.getReadMethod(field);
         for (Map.Entry<Class<? extends Annotation>, BeanValidationAnnotationHandler> entry : annotationHandlers.entrySet()) {
             Class<? extends Annotation> annotation = entry.getKey();
             BeanValidationAnnotationHandler annotationHandler = entry.getValue();
-            if (ReflectionUtils
-                    .isAnnotationPresent(field, annotation) && annotationHandler != null) {
-                return annotationHandler.getRandomizer(field);
+            boolean annotationPresent = field.isAnnotationPresent(annotation)
+                    || readMethod.isPresent() && readMethod.get().isAnnotationPresent(annotation);
+            if (annotationPresent && annotationHandler != null) {
+                Randomizer<?> randomizer = annotationHandler.getRandomizer(field);
+                return randomizer == null ? NO_RANDOMIZER : randomizer;
             }
         }
-        return null;
+        return NO_RANDOMIZER;
     }
 
     @Override
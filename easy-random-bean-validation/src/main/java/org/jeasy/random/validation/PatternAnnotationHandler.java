@@ -28,6 +28,7 @@ import org.jeasy.random.randomizers.RegularExpressionRandomizer;
 import org.jeasy.random.util.ReflectionUtils;
 
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
 import java.lang.reflect.Field;
 import java.util.Random;
 
@@ -47,6 +48,10 @@ class PatternAnnotationHandler implements BeanValidationAnnotationHandler {
 
         final String regex = patternAnnotation.regexp();
         if (fieldType.equals(String.class)) {
+            Size sizeAnnotation = ReflectionUtils.getAnnotation(field, Size.class);
+            if (sizeAnnotation != null) {
+                return new RegularExpressionRandomizer(regex, random.nextLong(), sizeAnnotation.min(), sizeAnnotation.max());
+            }
             return new RegularExpressionRandomizer(regex, random.nextLong());
         }
         return null;
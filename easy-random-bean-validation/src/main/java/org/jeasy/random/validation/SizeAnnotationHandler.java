@@ -26,11 +26,13 @@ package org.jeasy.random.validation;
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
 import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.RegularExpressionRandomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 import org.jeasy.random.randomizers.text.StringRandomizer;
 import org.jeasy.random.util.ReflectionUtils;
 import org.objenesis.ObjenesisStd;
 
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
@@ -73,6 +75,10 @@ class SizeAnnotationHandler implements BeanValidationAnnotationHandler {
         }
 
         if (fieldType.equals(String.class)) {
+            Pattern patternAnnotation = ReflectionUtils.getAnnotation(field, Pattern.class);
+            if (patternAnnotation != null) {
+                return new RegularExpressionRandomizer(patternAnnotation.regexp(), easyRandom.nextLong(), min, sizeAnnotation.max());
+            }
             return new StringRandomizer(charset, min, max, easyRandom.nextLong());
         }
 
@@ -97,7 +103,7 @@ class SizeAnnotationHandler implements BeanValidationAnnotationHandler {
                 Collection collection;
 
                 if (isInterface(fieldType)) {
-                    collection = getEmptyImplementationForCollectionInterface(fieldType);
+                    collection = getEmptyImplementationForCollectionInterface(fieldType, randomSize);
                 } else {
                     collection = createEmptyCollectionForType(fieldType, randomSize);
                 }
@@ -122,7 +128,7 @@ class SizeAnnotationHandler implements BeanValidationAnnotationHandler {
                 Map<Object, Object> map;
 
                 if (isInterface(fieldType)) {
-                    map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType);
+                    map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType, randomSize);
                 } else {
                     try {
                         map = (Map<Object, Object>) fieldType.newInstance();
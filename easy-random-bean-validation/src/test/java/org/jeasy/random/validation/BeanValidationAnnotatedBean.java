@@ -122,6 +122,10 @@ class BeanValidationAnnotatedBean {
     @Pattern(regexp="[a-z]{4}")
     private String regexString;
 
+    @Pattern(regexp="[a-z]+")
+    @Size(min=3, max=5)
+    private String sizedRegexString;
+
     public BeanValidationAnnotatedBean() {
     }
 
@@ -245,6 +249,10 @@ class BeanValidationAnnotatedBean {
         return this.regexString;
     }
 
+    public String getSizedRegexString() {
+        return this.sizedRegexString;
+    }
+
     public void setUnsupported(boolean unsupported) {
         this.unsupported = unsupported;
     }
@@ -364,4 +372,8 @@ class BeanValidationAnnotatedBean {
     public void setRegexString(String regexString) {
         this.regexString = regexString;
     }
+
+    public void setSizedRegexString(String sizedRegexString) {
+        this.sizedRegexString = sizedRegexString;
+    }
 }
@@ -25,6 +25,7 @@ package org.jeasy.random.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.util.Date;
 import java.time.LocalDateTime;
@@ -38,6 +39,7 @@ import javax.validation.constraints.Digits;
 
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.Randomizer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -110,6 +112,7 @@ class BeanValidationTest {
         assertThat(bean.getSizedString().length()).isBetween(2, 255);// @Size(min=2) String sizedString;
 
         assertThat(bean.getRegexString()).matches("[a-z]{4}");
+        assertThat(bean.getSizedRegexString()).matches("[a-z]+").hasSizeBetween(3, 5);
     }
 
     @Test
@@ -240,4 +243,31 @@ class BeanValidationTest {
         assertThat(salary.amount).isLessThanOrEqualTo(new BigDecimal("99.99"));
     }
 
+    @Test
+    void patternAndSizeShouldBeSatisfiedTogether() {
+        for (int i = 0; i < 100; i++) {
+            BeanValidationAnnotatedBean bean = easyRandom.nextObject(BeanValidationAnnotatedBean.class);
+
+            assertThat(bean.getSizedRegexString()).matches("[a-z]+").hasSizeBetween(3, 5); // @Pattern(regexp="[a-z]+") @Size(min=3, max=5)
+        }
+    }
+
+    @Test
+    void randomizersShouldBeResolvedOncePerField() throws NoSuchFieldException {
+        // given
+        BeanValidationRandomizerRegistry registry = new BeanValidationRandomizerRegistry();
+        registry.init(new EasyRandomParameters());
+        Field regexString = BeanValidationAnnotatedBean.class.getDeclaredField("regexString");
+        Field username = BeanValidationAnnotatedBean.class.getDeclaredField("username");
+
+        // when
+        Randomizer<?> randomizer = registry.getRandomizer(regexString);
+
+        // then
+        assertThat(randomizer).isNotNull();
+        assertThat(registry.getRandomizer(regexString)).isSameAs(randomizer);
+        assertThat(registry.getRandomizer(username)).isNull();
+        assertThat(registry.getRandomizer(username)).isNull();
+    }
+
 }
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the allocations made to generate large collections and maps. Run it with the
+ * GC profiler and compare the normalized allocation rate ({@code gc.alloc.rate.norm})
+ * between versions.
+ *
+ * Run with:
+ * <pre>
+ * mvn -P benchmarks package
+ * java -jar easy-random-benchmarks/target/benchmarks.jar CollectionAllocationBenchmark -prof gc
+ * </pre>
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionAllocationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private EasyRandom easyRandom;
+
+    @Setup
+    public void setUp() {
+        easyRandom = new EasyRandom(new EasyRandomParameters().collectionSizeRange(size, size));
+    }
+
+    @Benchmark
+    public Collections collections() {
+        return easyRandom.nextObject(Collections.class);
+    }
+
+    public static class Collections {
+
+        private List<Integer> list;
+
+        private Set<Long> set;
+
+        private Map<Integer, Long> map;
+
+        public List<Integer> getList() {
+            return list;
+        }
+
+        public Set<Long> getSet() {
+            return set;
+        }
+
+        public Map<Integer, Long> getMap() {
+            return map;
+        }
+    }
+}
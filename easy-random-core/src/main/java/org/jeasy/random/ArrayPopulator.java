@@ -23,13 +23,21 @@
  */
 package org.jeasy.random;
 
-import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
+import org.jeasy.random.api.PrimitiveRandomizer;
+import org.jeasy.random.api.Randomizer;
 
 import java.lang.reflect.Array;
 
 /**
  * Random array populator.
  *
+ * When elements are generated by a randomizer registered for the component type
+ * (primitive and other leaf types, including custom randomizers), the randomizer is
+ * resolved once and the array is filled in a tight loop. Primitive arrays are filled
+ * without boxing when the randomizer is a {@link PrimitiveRandomizer} of the component
+ * type that does not override its boxed method. Other component types are populated
+ * element by element.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 class ArrayPopulator {
@@ -44,6 +52,18 @@ class ArrayPopulator {
         Class<?> componentType = fieldType.getComponentType();
         int randomSize = getRandomArraySize(context.getParameters());
         Object result = Array.newInstance(componentType, randomSize);
+        if (randomSize == 0) {
+            return result;
+        }
+        Randomizer<?> randomizer = easyRandom.getRandomizerForInstancesOf(componentType, context);
+        if (randomizer != null) {
+            try {
+                fill(result, randomizer);
+            } catch (RuntimeException e) {
+                throw new ObjectCreationException("Unable to create a random instance of type " + componentType, e);
+            }
+            return result;
+        }
         for (int i = 0; i < randomSize; i++) {
             Object randomElement = easyRandom.doPopulateBean(componentType, context);
             Array.set(result, i, randomElement);
@@ -51,8 +71,47 @@ class ArrayPopulator {
         return result;
     }
 
+    private void fill(final Object array, final Randomizer<?> randomizer) {
+        boolean unboxed = PrimitiveRandomizers.canBeUnboxed(randomizer);
+        if (unboxed && array instanceof int[] && randomizer instanceof PrimitiveRandomizer.OfInt) {
+            int[] values = (int[]) array;
+            PrimitiveRandomizer.OfInt ints = (PrimitiveRandomizer.OfInt) randomizer;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ints.nextInt();
+            }
+        } else if (unboxed && array instanceof long[] && randomizer instanceof PrimitiveRandomizer.OfLong) {
+            long[] values = (long[]) array;
+            PrimitiveRandomizer.OfLong longs = (PrimitiveRandomizer.OfLong) randomizer;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = longs.nextLong();
+            }
+        } else if (unboxed && array instanceof double[] && randomizer instanceof PrimitiveRandomizer.OfDouble) {
+            double[] values = (double[]) array;
+            PrimitiveRandomizer.OfDouble doubles = (PrimitiveRandomizer.OfDouble) randomizer;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = doubles.nextDouble();
+            }
+        } else if (unboxed && array instanceof char[] && randomizer instanceof PrimitiveRandomizer.OfChar) {
+            char[] values = (char[]) array;
+            PrimitiveRandomizer.OfChar chars = (PrimitiveRandomizer.OfChar) randomizer;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = chars.nextChar();
+            }
+        } else if (array instanceof Object[]) {
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = randomizer.getRandomValue();
+            }
+        } else {
+            // other primitive arrays (or randomizers not specialized for the component type): unbox each value
+            int length = Array.getLength(array);
+            for (int i = 0; i < length; i++) {
+                Array.set(array, i, randomizer.getRandomValue());
+            }
+        }
+    }
+
     private int getRandomArraySize(EasyRandomParameters parameters) {
-        EasyRandomParameters.Range<Integer> collectionSizeRange = parameters.getCollectionSizeRange();
-        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), easyRandom.nextLong()).getRandomValue();
+        return SizeSampler.sample(parameters.getCollectionSizeRange(), easyRandom.nextLong());
     }
 }
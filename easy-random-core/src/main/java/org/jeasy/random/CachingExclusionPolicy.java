@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.ExclusionPolicy;
+import org.jeasy.random.api.RandomizerContext;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorator of a context independent {@link ExclusionPolicy} (see {@link ExclusionPolicy#isContextIndependent()})
+ * that remembers the decision of the decorated policy for each field and type.
+ *
+ * @author agent (agent@local)
+ */
+class CachingExclusionPolicy implements ExclusionPolicy {
+
+    private final ExclusionPolicy delegate;
+
+    private final Map<Field, Boolean> fieldDecisions = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Boolean> typeDecisions = new ConcurrentHashMap<>();
+
+    private CachingExclusionPolicy(final ExclusionPolicy delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Decorate the given policy if its decisions can be cached.
+     *
+     * @param exclusionPolicy to decorate
+     * @return a caching policy if the given policy is context independent, the policy itself otherwise
+     */
+    static ExclusionPolicy of(final ExclusionPolicy exclusionPolicy) {
+        if (exclusionPolicy instanceof CachingExclusionPolicy || !exclusionPolicy.isContextIndependent()) {
+            return exclusionPolicy;
+        }
+        return new CachingExclusionPolicy(exclusionPolicy);
+    }
+
+    @Override
+    public boolean shouldBeExcluded(final Field field, final RandomizerContext context) {
+        Boolean excluded = fieldDecisions.get(field);
+        if (excluded == null) {
+            excluded = delegate.shouldBeExcluded(field, context);
+            fieldDecisions.put(field, excluded);
+        }
+        return excluded;
+    }
+
+    @Override
+    public boolean shouldBeExcluded(final Class<?> type, final RandomizerContext context) {
+        Boolean excluded = typeDecisions.get(type);
+        if (excluded == null) {
+            excluded = delegate.shouldBeExcluded(type, context);
+            typeDecisions.put(type, excluded);
+        }
+        return excluded;
+    }
+
+    @Override
+    public boolean isContextIndependent() {
+        return true;
+    }
+}
@@ -23,8 +23,6 @@
  */
 package org.jeasy.random;
 
-import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
-
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -45,15 +43,17 @@ class CollectionPopulator {
         this.easyRandom = easyRandom;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     Collection<?> getRandomCollection(final Field field, final RandomizationContext context) {
+        return getRandomCollection(field.getType(), field.getGenericType(), context);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Collection<?> getRandomCollection(final Class<?> fieldType, final Type fieldGenericType, final RandomizationContext context) {
         int randomSize = getRandomCollectionSize(context.getParameters());
-        Class<?> fieldType = field.getType();
-        Type fieldGenericType = field.getGenericType();
         Collection collection;
 
         if (isInterface(fieldType)) {
-            collection = getEmptyImplementationForCollectionInterface(fieldType);
+            collection = getEmptyImplementationForCollectionInterface(fieldType, randomSize);
         } else {
             collection = createEmptyCollectionForType(fieldType, randomSize);
         }
@@ -74,7 +74,6 @@ class CollectionPopulator {
     }
 
     private int getRandomCollectionSize(EasyRandomParameters parameters) {
-        EasyRandomParameters.Range<Integer> collectionSizeRange = parameters.getCollectionSizeRange();
-        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), easyRandom.nextLong()).getRandomValue();
+        return SizeSampler.sample(parameters.getCollectionSizeRange(), easyRandom.nextLong());
     }
 }
@@ -0,0 +1,216 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.annotation.RandomizedConstructor;
+import org.jeasy.random.api.ExclusionPolicy;
+
+import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.jeasy.random.util.ReflectionUtils.getInheritedFields;
+
+/**
+ * Creates instances of a bean type by invoking one of its constructors with random
+ * arguments when constructor injection is enabled (see {@link EasyRandomParameters#constructorInjection(boolean)}).
+ *
+ * The constructor is the one annotated with {@link RandomizedConstructor}, or the widest
+ * constructor of types without no-arg constructor. It is resolved once per type together
+ * with the field matching each parameter (same name and type), if parameter names are
+ * available. Arguments of matching parameters are generated like the field (exclusions,
+ * randomizers registered for the field, etc), other arguments are generated by type.
+ *
+ * @author agent (agent@local)
+ */
+class ConstructorInjector {
+
+    private final Constructor<?> constructor;
+
+    // (Object[])Object view of the constructor
+    private final MethodHandle handle;
+
+    private final Class<?>[] parameterTypes;
+
+    private final Type[] genericParameterTypes;
+
+    // field matching each parameter, null if none
+    private final Field[] fields;
+
+    // value passed for arguments that are not generated (null, or zero for primitive types)
+    private final Object[] defaultValues;
+
+    private ConstructorInjector(final Class<?> type, final Constructor<?> constructor) throws IllegalAccessException {
+        this.constructor = constructor;
+        constructor.setAccessible(true);
+        this.parameterTypes = constructor.getParameterTypes();
+        this.genericParameterTypes = constructor.getGenericParameterTypes();
+        this.handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                .asSpreader(Object[].class, parameterTypes.length)
+                .asType(methodType(Object.class, Object[].class));
+        this.fields = matchingFieldsOf(type, constructor);
+        this.defaultValues = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isPrimitive()) {
+                defaultValues[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+            }
+        }
+    }
+
+    /**
+     * Create an injector for the given type.
+     *
+     * @param type of the beans to create
+     * @return the injector, or null if beans of this type should be created by the object factory
+     */
+    static ConstructorInjector of(final Class<?> type) {
+        if (!isInstantiable(type)) {
+            return null;
+        }
+        Constructor<?> constructor = selectConstructor(type);
+        if (constructor == null) {
+            return null;
+        }
+        try {
+            return new ConstructorInjector(type, constructor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // inaccessible constructor, security restrictions, etc
+            return null;
+        }
+    }
+
+    Object newInstance(final RandomizationContext context, final ExclusionPolicy exclusionPolicy,
+                       final FieldPopulator fieldPopulator) throws IllegalAccessException {
+        Object[] arguments = defaultValues.clone();
+        for (int i = 0; i < arguments.length; i++) {
+            Field field = fields[i];
+            if (field == null) {
+                Object argument = fieldPopulator.generateRandomValueOfType(parameterTypes[i], genericParameterTypes[i], context);
+                if (argument != null) {
+                    arguments[i] = argument;
+                }
+            } else if (!exclusionPolicy.shouldBeExcluded(field, context)) {
+                final int index = i;
+                // the bean does not exist yet, the value generated for the field is kept as argument
+                fieldPopulator.populateField(null, field, context, (target, f, value, c) -> {
+                    if (value != null) {
+                        arguments[index] = value;
+                    }
+                });
+            }
+        }
+        try {
+            return handle.invokeExact(arguments);
+        } catch (Throwable throwable) {
+            throw new ObjectCreationException("Unable to create an instance of type " + constructor.getDeclaringClass().getName()
+                    + " with constructor " + constructor, throwable);
+        }
+    }
+
+    private static boolean isInstantiable(final Class<?> type) {
+        int modifiers = type.getModifiers();
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || Modifier.isAbstract(modifiers)) {
+            return false;
+        }
+        // inner classes take the enclosing instance as first constructor argument
+        return type.getEnclosingClass() == null || Modifier.isStatic(modifiers);
+    }
+
+    private static Constructor<?> selectConstructor(final Class<?> type) {
+        List<Constructor<?>> constructors = new ArrayList<>();
+        List<Constructor<?>> annotatedConstructors = new ArrayList<>();
+        boolean hasNoArgConstructor = false;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.isSynthetic()) {
+                continue;
+            }
+            constructors.add(constructor);
+            if (constructor.isAnnotationPresent(RandomizedConstructor.class)) {
+                annotatedConstructors.add(constructor);
+            }
+            hasNoArgConstructor |= constructor.getParameterCount() == 0;
+        }
+        if (!annotatedConstructors.isEmpty()) {
+            return widest(annotatedConstructors);
+        }
+        // beans with a no-arg constructor are created by the object factory and populated field by field
+        return hasNoArgConstructor || constructors.isEmpty() ? null : widest(constructors);
+    }
+
+    private static Constructor<?> widest(final List<Constructor<?>> constructors) {
+        // ties are broken by signature so that the choice does not depend on the order of declared constructors
+        return constructors.stream()
+                .max(Comparator.<Constructor<?>>comparingInt(Constructor::getParameterCount)
+                        .thenComparing(Constructor::toString, Comparator.reverseOrder()))
+                .orElse(null);
+    }
+
+    private static Field[] matchingFieldsOf(final Class<?> type, final Constructor<?> constructor) {
+        Parameter[] parameters = constructor.getParameters();
+        Field[] matchingFields = new Field[parameters.length];
+        String[] names = parameterNamesOf(constructor);
+        if (names == null) {
+            return matchingFields;
+        }
+        List<Field> fields = new ArrayList<>(Arrays.asList(type.getDeclaredFields()));
+        fields.addAll(getInheritedFields(type));
+        for (int i = 0; i < parameters.length; i++) {
+            for (Field field : fields) {
+                if (!Modifier.isStatic(field.getModifiers()) && field.getName().equals(names[i])
+                        && field.getType() == parameters[i].getType()) {
+                    matchingFields[i] = field;
+                    break;
+                }
+            }
+        }
+        return matchingFields;
+    }
+
+    private static String[] parameterNamesOf(final Constructor<?> constructor) {
+        ConstructorProperties constructorProperties = constructor.getAnnotation(ConstructorProperties.class);
+        if (constructorProperties != null && constructorProperties.value().length == constructor.getParameterCount()) {
+            return constructorProperties.value();
+        }
+        Parameter[] parameters = constructor.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].isNamePresent()) {
+                return null;
+            }
+            names[i] = parameters[i].getName();
+        }
+        return names;
+    }
+}
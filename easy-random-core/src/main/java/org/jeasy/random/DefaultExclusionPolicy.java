@@ -25,6 +25,7 @@ package org.jeasy.random;
 
 import org.jeasy.random.api.ExclusionPolicy;
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.IndexedPredicateSet;
 
 import java.lang.reflect.Field;
 import java.util.Set;
@@ -36,6 +37,9 @@ import static org.jeasy.random.util.ReflectionUtils.*;
  * Component that encapsulates the logic of field/type exclusion in a given randomization context.
  * This class implements exclusion rules in the predefined order.
  *
+ * Decisions only depend on the exclusion predicates of the parameters, so they are
+ * cached by {@link EasyRandom}: predicates should be registered before creating it.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 public class DefaultExclusionPolicy implements ExclusionPolicy {
@@ -52,6 +56,9 @@ public class DefaultExclusionPolicy implements ExclusionPolicy {
             return true;
         }
         Set<Predicate<Field>> fieldExclusionPredicates = context.getParameters().getFieldExclusionPredicates();
+        if (fieldExclusionPredicates instanceof IndexedPredicateSet) {
+            return ((IndexedPredicateSet<Field>) fieldExclusionPredicates).anyMatch(field);
+        }
         for (Predicate<Field> fieldExclusionPredicate : fieldExclusionPredicates) {
             if (fieldExclusionPredicate.test(field)) {
                 return true;
@@ -69,6 +76,9 @@ public class DefaultExclusionPolicy implements ExclusionPolicy {
      */
     public boolean shouldBeExcluded(final Class<?> type, final RandomizerContext context) {
         Set<Predicate<Class<?>>> typeExclusionPredicates = context.getParameters().getTypeExclusionPredicates();
+        if (typeExclusionPredicates instanceof IndexedPredicateSet) {
+            return ((IndexedPredicateSet<Class<?>>) typeExclusionPredicates).anyMatch(type);
+        }
         for (Predicate<Class<?>> typeExclusionPredicate : typeExclusionPredicates) {
             if (typeExclusionPredicate.test(type)) {
                 return true;
@@ -76,4 +86,14 @@ public class DefaultExclusionPolicy implements ExclusionPolicy {
         }
         return false;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Decisions of subclasses may depend on the context, so only this class is context independent.
+     */
+    @Override
+    public boolean isContextIndependent() {
+        return getClass() == DefaultExclusionPolicy.class;
+    }
 }
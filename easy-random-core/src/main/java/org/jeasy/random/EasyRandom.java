@@ -25,18 +25,29 @@ package org.jeasy.random;
 
 import org.jeasy.random.api.*;
 import org.jeasy.random.randomizers.misc.EnumRandomizer;
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.jeasy.random.util.ConcreteSubTypes;
+import org.jeasy.random.util.FieldAccessor;
 import org.jeasy.random.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.jeasy.random.util.ReflectionUtils.*;
 
 /**
  * Extension of {@link java.util.Random} that is able to generate random Java objects.
  *
+ * Instances are not thread safe by default. Instances created with
+ * {@link EasyRandomParameters#threadSafe(boolean)} can be shared by multiple threads:
+ * each thread generates objects with its own delegate, without locks nor shared random streams.
+ * Delegates are seeded in the order in which threads first use the instance, so objects generated
+ * concurrently are not reproducible, unlike the ones of {@link #parallelObjects(Class, long)}.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -56,6 +67,25 @@ public class EasyRandom extends Random {
 
     private final ExclusionPolicy exclusionPolicy;
 
+    private final Map<Class<?>, PopulationPlan> populationPlans;
+
+    private final Map<Class<?>, Optional<ConstructorInjector>> constructorInjectors;
+
+    // scope of the classpath scanning for concrete subtypes, resolved once and shared with forks
+    private final ConcreteSubTypes concreteSubTypes;
+
+    // types of the registries found with the ServiceLoader, discovered once and shared with forks
+    private final List<Class<? extends RandomizerRegistry>> registryTypes;
+
+    // seeded stream used for choices made during randomization (object pools, concrete subtypes),
+    // separate from the stream of this instance so that it does not shift the generated values
+    private final Random choiceRandom;
+
+    // delegate of each thread in thread safe mode, null otherwise
+    private final ThreadLocal<EasyRandom> delegates;
+
+    private final AtomicLong delegatesCount;
+
     /**
      * Create a new {@link EasyRandom} instance with default parameters.
      */
@@ -69,20 +99,57 @@ public class EasyRandom extends Random {
      * @param easyRandomParameters randomization parameters
      */
     public EasyRandom(final EasyRandomParameters easyRandomParameters) {
+        this(easyRandomParameters, null);
+    }
+
+    /*
+     * Forks share the custom randomizers (except seeded ones) and exclusions of the parameters, the exclusion decisions, the discovered
+     * registry types and the population plans with the instance they have been forked from. User registries of the
+     * parameters are copied for each fork when they support it, and shared otherwise.
+     */
+    private EasyRandom(final EasyRandomParameters easyRandomParameters, final EasyRandom parent) {
         Objects.requireNonNull(easyRandomParameters, "Parameters must not be null");
         super.setSeed(easyRandomParameters.getSeed());
-        LinkedHashSet<RandomizerRegistry> registries = setupRandomizerRegistries(easyRandomParameters);
-        RandomizerProvider customRandomizerProvider = easyRandomParameters.getRandomizerProvider();
-        randomizerProvider = customRandomizerProvider == null ? new RegistriesRandomizerProvider() : customRandomizerProvider;
-        randomizerProvider.setRandomizerRegistries(registries);
-        objectFactory = easyRandomParameters.getObjectFactory();
-        arrayPopulator = new ArrayPopulator(this);
-        CollectionPopulator collectionPopulator = new CollectionPopulator(this);
-        MapPopulator mapPopulator = new MapPopulator(this, objectFactory);
-        enumRandomizersByType = new ConcurrentHashMap<>();
-        fieldPopulator = new FieldPopulator(this, this.randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator);
-        exclusionPolicy = easyRandomParameters.getExclusionPolicy();
         parameters = easyRandomParameters;
+        choiceRandom = new Random(easyRandomParameters.getSeed());
+        Collection<RandomizerRegistry> discoveredRegistries = parent != null ? newRegistries(parent.registryTypes) : loadRegistries();
+        registryTypes = parent != null ? parent.registryTypes : typesOf(discoveredRegistries);
+        populationPlans = parent != null ? parent.populationPlans : new ConcurrentHashMap<>();
+        constructorInjectors = parent != null ? parent.constructorInjectors : new ConcurrentHashMap<>();
+        concreteSubTypes = parent != null ? parent.concreteSubTypes
+                : new ConcreteSubTypes(easyRandomParameters.getClasspathScanPackages(), easyRandomParameters.isScanSystemModulesForConcreteTypes());
+        if (easyRandomParameters.isThreadSafe()) {
+            if (easyRandomParameters.getRandomizerProvider() != null) {
+                throw new IllegalArgumentException("A custom randomizer provider can not be used in thread safe mode");
+            }
+            if (parent == null) {
+                getSharedRandomizerRegistries(easyRandomParameters).forEach(registry -> registry.init(easyRandomParameters));
+            }
+            // this instance only dispatches calls to the delegate of the calling thread
+            delegates = ThreadLocal.withInitial(this::newDelegate);
+            delegatesCount = new AtomicLong();
+            randomizerProvider = null;
+            objectFactory = null;
+            arrayPopulator = null;
+            enumRandomizersByType = null;
+            fieldPopulator = null;
+            // shared by delegates
+            exclusionPolicy = parent != null ? parent.exclusionPolicy : CachingExclusionPolicy.of(easyRandomParameters.getExclusionPolicy());
+        } else {
+            delegates = null;
+            delegatesCount = null;
+            LinkedHashSet<RandomizerRegistry> registries = setupRandomizerRegistries(easyRandomParameters, parent != null, discoveredRegistries);
+            RandomizerProvider customRandomizerProvider = easyRandomParameters.getRandomizerProvider();
+            randomizerProvider = customRandomizerProvider == null ? new RegistriesRandomizerProvider() : customRandomizerProvider;
+            randomizerProvider.setRandomizerRegistries(registries);
+            objectFactory = easyRandomParameters.getObjectFactory();
+            arrayPopulator = new ArrayPopulator(this);
+            CollectionPopulator collectionPopulator = new CollectionPopulator(this);
+            MapPopulator mapPopulator = new MapPopulator(this, objectFactory);
+            enumRandomizersByType = new ConcurrentHashMap<>();
+            fieldPopulator = new FieldPopulator(this, this.randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator);
+            exclusionPolicy = parent != null ? parent.exclusionPolicy : CachingExclusionPolicy.of(easyRandomParameters.getExclusionPolicy());
+        }
     }
 
     /**
@@ -94,7 +161,10 @@ public class EasyRandom extends Random {
      * @throws ObjectCreationException when unable to create a new instance of the given type
      */
     public <T> T nextObject(final Class<T> type) {
-        return doPopulateBean(type, new RandomizationContext(type, parameters));
+        if (delegates != null) {
+            return delegates.get().nextObject(type);
+        }
+        return doPopulateBean(type, new RandomizationContext(type, parameters, choiceRandom, concreteSubTypes));
     }
 
     /**
@@ -114,6 +184,189 @@ public class EasyRandom extends Random {
         return Stream.generate(() -> nextObject(type)).limit(streamSize);
     }
 
+    /**
+     * Generate a list of random instances of the given type. Objects are the same as the
+     * ones of {@link #objects(Class, int)}, but the randomization context and its internal
+     * buffers are reused for all of them.
+     *
+     * @param type  the type for which instances will be generated
+     * @param count the number of instances to generate
+     * @param <T>   the actual type of the target objects
+     * @return a list of random instances of the given type
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     */
+    public <T> List<T> nextObjects(final Class<T> type, final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of objects must be positive");
+        }
+        if (delegates != null) {
+            return delegates.get().nextObjects(type, count);
+        }
+        List<T> objects = new ArrayList<>(count);
+        RandomizationContext context = new RandomizationContext(type, parameters, choiceRandom, concreteSubTypes);
+        for (int i = 0; i < count; i++) {
+            objects.add(nextObject(type, context));
+        }
+        return objects;
+    }
+
+    /**
+     * Fill the given array with random instances of its component type.
+     * The randomization context and its internal buffers are reused for all instances.
+     *
+     * @param target the array to fill
+     * @param <T>    the actual type of the target objects
+     * @return the given array
+     * @throws ObjectCreationException when unable to create a new instance of the component type
+     */
+    public <T> T[] fill(final T[] target) {
+        Objects.requireNonNull(target, "Target array must not be null");
+        if (delegates != null) {
+            return delegates.get().fill(target);
+        }
+        Class<T> type = (Class<T>) target.getClass().getComponentType();
+        RandomizationContext context = new RandomizationContext(type, parameters, choiceRandom, concreteSubTypes);
+        for (int i = 0; i < target.length; i++) {
+            target[i] = nextObject(type, context);
+        }
+        return target;
+    }
+
+    /**
+     * Replace each element of the given list with a random instance of the given type.
+     * The randomization context and its internal buffers are reused for all instances.
+     *
+     * @param target the list to fill
+     * @param type   the type for which instances will be generated
+     * @param <T>    the actual type of the target objects
+     * @return the given list
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     */
+    public <T> List<T> fill(final List<T> target, final Class<T> type) {
+        Objects.requireNonNull(target, "Target list must not be null");
+        if (delegates != null) {
+            return delegates.get().fill(target, type);
+        }
+        RandomizationContext context = new RandomizationContext(type, parameters, choiceRandom, concreteSubTypes);
+        ListIterator<T> iterator = target.listIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.set(nextObject(type, context));
+        }
+        return target;
+    }
+
+    /**
+     * Generate the random instance of the given type at the given index.
+     *
+     * The instance at a given index is always generated from a seed derived from the seed of
+     * the parameters and this index, with an {@link EasyRandom} created for this index. It is
+     * generated in constant time, without generating the instances at previous indexes, and is
+     * the same as the instance at this index in {@link #objects(Class, long, long)} and
+     * {@link #parallelObjects(Class, long)}. Instances generated by index are independent of the
+     * ones generated by {@link #nextObject(Class)}.
+     *
+     * Registries of the parameters are copied with {@link RandomizerRegistry#copy(EasyRandomParameters)}
+     * and initialized with the seed of each index. Custom randomizers must be registered with
+     * {@link EasyRandomParameters#randomizeWithSeed(Class, java.util.function.LongFunction)} or
+     * {@link EasyRandomParameters#randomizeWithSeed(java.util.function.Predicate, java.util.function.LongFunction)}
+     * to be created with the seed of each index: the ones registered with
+     * {@link EasyRandomParameters#randomize(Class, Randomizer)} or
+     * {@link EasyRandomParameters#randomize(java.util.function.Predicate, Randomizer)} can not be
+     * seeded for each index, so they can not be used to generate objects by index.
+     *
+     * @param type  the type for which an instance will be generated
+     * @param index the index of the instance to generate
+     * @param <T>   the actual type of the target object
+     * @return the random instance of the given type at the given index
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     * @throws IllegalStateException when a custom {@link RandomizerProvider} or unseeded custom randomizers are used,
+     * or when a registry of the parameters can not be copied
+     */
+    public <T> T nextObject(final Class<T> type, final long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("The index must be positive");
+        }
+        checkIndexedGenerationIsSupported();
+        return nextObject(type, parameters.getSeed(), index);
+    }
+
+    /**
+     * Generate a stream of the random instances of the given type between the given indexes.
+     * The instance at each index is the one returned by {@link #nextObject(Class, long)}, so
+     * the content of the stream does not depend on the range it is generated from, nor on the
+     * number of threads and how the stream is split if it is made parallel.
+     *
+     * @param type      the type for which instances will be generated
+     * @param fromIndex the index of the first instance to generate (inclusive)
+     * @param toIndex   the index of the last instance to generate (exclusive)
+     * @param <T>       the actual type of the target objects
+     * @return a sequential stream of random instances of the given type
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     * @throws IllegalStateException when a custom {@link RandomizerProvider} or unseeded custom randomizers are used,
+     * or when a registry of the parameters can not be copied
+     */
+    public <T> Stream<T> objects(final Class<T> type, final long fromIndex, final long toIndex) {
+        if (fromIndex < 0 || toIndex < fromIndex) {
+            throw new IllegalArgumentException("The indexes must be positive and fromIndex must be lower than or equal to toIndex");
+        }
+        checkIndexedGenerationIsSupported();
+        long seed = parameters.getSeed();
+        return StreamSupport.stream(new IndexedObjectSpliterator<>(index -> nextObject(type, seed, index), fromIndex, toIndex), false);
+    }
+
+    /**
+     * Generate a parallel stream of random instances of the given type.
+     *
+     * Unlike {@link #objects(Class, int)}, the instance at a given index of the stream is the
+     * one returned by {@link #nextObject(Class, long)}. The content of the stream is therefore
+     * the same regardless of the number of threads and of how the stream is split. Each instance
+     * is generated with its own registries, so randomizers are never called concurrently, and
+     * only custom randomizers registered with a seeded factory (see
+     * {@link EasyRandomParameters#randomizeWithSeed(Class, java.util.function.LongFunction)}) can be used.
+     *
+     * @param type       the type for which instances will be generated
+     * @param streamSize the number of instances to generate
+     * @param <T>        the actual type of the target objects
+     * @return a parallel stream of random instances of the given type
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     * @throws IllegalStateException when a custom {@link RandomizerProvider} or unseeded custom randomizers are used,
+     * or when a registry of the parameters can not be copied
+     */
+    public <T> Stream<T> parallelObjects(final Class<T> type, final long streamSize) {
+        if (streamSize < 0) {
+            throw new IllegalArgumentException("The stream size must be positive");
+        }
+        // checked when the stream is created, not when it is consumed by worker threads
+        return objects(type, 0, streamSize).parallel();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * In thread safe mode, bits are generated by the delegate of the calling thread.
+     */
+    @Override
+    protected int next(final int bits) {
+        if (delegates != null) {
+            return delegates.get().next(bits);
+        }
+        return super.next(bits);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * In thread safe mode, values are generated by the delegate of the calling thread.
+     */
+    @Override
+    public double nextGaussian() {
+        if (delegates != null) {
+            return delegates.get().nextGaussian();
+        }
+        return super.nextGaussian();
+    }
+
     <T> T doPopulateBean(final Class<T> type, final RandomizationContext context) {
         if (exclusionPolicy.shouldBeExcluded(type, context)) {
             return null;
@@ -130,8 +383,10 @@ public class EasyRandom extends Random {
                 return (T) randomizer.getRandomValue();
             }
 
+            PopulationPlan populationPlan = getPopulationPlan(type);
+
             // Collection types are randomized without introspection for internal fields
-            if (!isIntrospectable(type)) {
+            if (!populationPlan.isIntrospectable()) {
                 return randomize(type, context);
             }
 
@@ -140,6 +395,13 @@ public class EasyRandom extends Random {
                 return (T) context.getPopulatedBean(type);
             }
 
+            if (parameters.isConstructorInjection()) {
+                ConstructorInjector constructorInjector = getConstructorInjector(type);
+                if (constructorInjector != null) {
+                    return createWithConstructor(type, constructorInjector, context);
+                }
+            }
+
             // create a new instance of the target type
             result = objectFactory.createInstance(type, context);
             context.setRandomizedObject(result);
@@ -148,15 +410,9 @@ public class EasyRandom extends Random {
             context.addPopulatedBean(type, result);
 
             // retrieve declared and inherited fields
-            List<Field> fields = getDeclaredFields(result);
-            // we can not use type here, because with classpath scanning enabled the result can be a subtype
-            fields.addAll(getInheritedFields(result.getClass()));
-
-            // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
-            // This field should be excluded
-            if (type.getEnclosingClass() != null) {
-                fields.removeIf(field -> field.getName().equals("this$0"));
-            }
+            // with classpath scanning enabled the result can be a subtype, which has its own plan
+            Class<?> actualType = result.getClass();
+            List<Field> fields = (actualType == type ? populationPlan : getPopulationPlan(actualType)).getFields();
 
             // populate fields with random data
             populateFields(fields, result, context);
@@ -171,6 +427,50 @@ public class EasyRandom extends Random {
         }
     }
 
+    /*
+     * Get the randomizer that doPopulateBean would use to generate each instance of the given type,
+     * so that callers generating many instances in a row (like arrays) can use it directly.
+     * Returns null when instances should be generated through doPopulateBean: excluded type,
+     * type without randomizer or randomization errors to ignore.
+     */
+    Randomizer<?> getRandomizerForInstancesOf(final Class<?> type, final RandomizationContext context) {
+        if (parameters.isIgnoreRandomizationErrors() || exclusionPolicy.shouldBeExcluded(type, context)) {
+            return null;
+        }
+        Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
+        if (randomizer instanceof ContextAwareRandomizer) {
+            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+        }
+        return randomizer;
+    }
+
+    private PopulationPlan getPopulationPlan(final Class<?> type) {
+        return populationPlans.computeIfAbsent(type, PopulationPlan::of);
+    }
+
+    private ConstructorInjector getConstructorInjector(final Class<?> type) {
+        return constructorInjectors
+                .computeIfAbsent(type, t -> Optional.ofNullable(ConstructorInjector.of(t)))
+                .orElse(null);
+    }
+
+    private <T> T createWithConstructor(final Class<T> type, final ConstructorInjector constructorInjector,
+                                        final RandomizationContext context) throws IllegalAccessException {
+        if (!context.startConstruction(type)) {
+            // the bean is an (indirect) argument of a bean of the same type, which does not exist yet
+            return null;
+        }
+        T result;
+        try {
+            result = (T) constructorInjector.newInstance(context, exclusionPolicy, fieldPopulator);
+        } finally {
+            context.endConstruction(type);
+        }
+        context.setRandomizedObject(result);
+        context.addPopulatedBean(type, result);
+        return result;
+    }
+
     private <T> T randomize(final Class<T> type, final RandomizationContext context) {
         if (isEnumType(type)) {
             if (!enumRandomizersByType.containsKey(type)) {
@@ -191,28 +491,130 @@ public class EasyRandom extends Random {
     }
 
     private <T> void populateFields(final List<Field> fields, final T result, final RandomizationContext context) throws IllegalAccessException {
-        for (final Field field : fields) {
-            populateField(field, result, context);
+        FieldPopulator.FieldWriter[] writers = parameters.getPopulationEngine() == EasyRandomParameters.PopulationEngine.GENERATED
+                ? GeneratedFieldWriters.of(result.getClass(), fields, parameters.isBypassSetters()) : null;
+        for (int i = 0; i < fields.size(); i++) {
+            populateField(fields.get(i), result, context, writers == null ? null : writers[i]);
         }
     }
 
-    private <T> void populateField(final Field field, final T result, final RandomizationContext context) throws IllegalAccessException {
+    private <T> void populateField(final Field field, final T result, final RandomizationContext context,
+                                   final FieldPopulator.FieldWriter writer) throws IllegalAccessException {
         if (exclusionPolicy.shouldBeExcluded(field, context)) {
             return;
         }
-        if (!parameters.isOverrideDefaultInitialization() && getFieldValue(result, field) != null && !isPrimitiveFieldWithDefaultValue(result, field)) {
+        if (!parameters.isOverrideDefaultInitialization() && !FieldAccessor.of(field).hasDefaultValue(result)) {
           return;
         }
-        fieldPopulator.populateField(result, field, context);
+        if (writer != null) {
+            fieldPopulator.populateField(result, field, context, writer);
+        } else {
+            fieldPopulator.populateField(result, field, context);
+        }
+    }
+
+    // seeded with the number of delegates created before, which depends on the order in which threads arrive
+    private EasyRandom newDelegate() {
+        return fork(splitSeed(parameters.getSeed(), delegatesCount.getAndIncrement()));
+    }
+
+    private <T> T nextObject(final Class<T> type, final RandomizationContext context) {
+        context.reset(type);
+        return doPopulateBean(type, context);
+    }
+
+    private void checkIndexedGenerationIsSupported() {
+        if (parameters.getRandomizerProvider() != null) {
+            throw new IllegalStateException("Objects can not be generated by index with a custom randomizer provider");
+        }
+        if (parameters.getCustomRandomizerRegistry().hasSharedRandomizers()) {
+            throw new IllegalStateException("Objects can not be generated by index with custom randomizers registered without a factory, "
+                    + "they can not be seeded for each index (see EasyRandomParameters#randomizeWithSeed)");
+        }
+        for (RandomizerRegistry registry : parameters.getUserRegistries()) {
+            if (registry.copy(parameters) == null) {
+                throw new IllegalStateException("Objects can not be generated by index with randomizer registry "
+                        + registry.getClass().getName() + ", it can not be copied to be seeded for each index");
+            }
+        }
+    }
+
+    private <T> T nextObject(final Class<T> type, final long seed, final long index) {
+        return fork(splitSeed(seed, index)).nextObject(type);
+    }
+
+    /*
+     * Create a non thread safe instance with the same parameters as this one but the given seed.
+     */
+    private EasyRandom fork(final long seed) {
+        EasyRandomParameters forkParameters = parameters.copy();
+        forkParameters.setSeed(seed);
+        forkParameters.setThreadSafe(false);
+        copyRegistries(forkParameters);
+        return new EasyRandom(forkParameters, this);
     }
 
-    private LinkedHashSet<RandomizerRegistry> setupRandomizerRegistries(EasyRandomParameters parameters) {
+    /*
+     * Create an instance with the same parameters as this one but the given seed, sharing
+     * everything that does not depend on the seed with this instance.
+     */
+    EasyRandom derive(final long seed) {
+        EasyRandomParameters derivedParameters = parameters.copy();
+        derivedParameters.setSeed(seed);
+        copyRegistries(derivedParameters);
+        return new EasyRandom(derivedParameters, this);
+    }
+
+    /*
+     * Derive the seed of an independent random stream from a base seed and a stream index
+     * (finalizer of the SplitMix64 generator applied to the index-th element of its sequence).
+     */
+    static long splitSeed(final long seed, final long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /*
+     * Replace the registries of the given parameters with copies initialized with these parameters,
+     * so that they generate values from the seed of the parameters. Registries that can not be copied
+     * are shared, they have already been initialized, as well as the custom randomizer registry when
+     * it has no seeded randomizer.
+     */
+    private static void copyRegistries(final EasyRandomParameters parameters) {
+        CustomRandomizerRegistry customRandomizerRegistry = parameters.getCustomRandomizerRegistry();
+        if (customRandomizerRegistry.hasSeededRandomizers()) {
+            parameters.setCustomRandomizerRegistry(customRandomizerRegistry.copy(parameters));
+        }
+        Set<RandomizerRegistry> copies = new LinkedHashSet<>();
+        for (RandomizerRegistry registry : parameters.getUserRegistries()) {
+            RandomizerRegistry copy = registry.copy(parameters);
+            copies.add(copy != null ? copy : registry);
+        }
+        parameters.setUserRegistries(copies);
+    }
+
+    private LinkedHashSet<RandomizerRegistry> setupRandomizerRegistries(EasyRandomParameters parameters, boolean fork,
+                                                                        Collection<RandomizerRegistry> discoveredRegistries) {
+        LinkedHashSet<RandomizerRegistry> registries = getSharedRandomizerRegistries(parameters);
+        // registries of the parameters have already been initialized by the parent instance (or when copied for the fork)
+        if (!fork) {
+            registries.forEach(registry -> registry.init(parameters));
+        }
+        for (RandomizerRegistry registry : discoveredRegistries) {
+            if (registries.add(registry)) {
+                registry.init(parameters);
+            }
+        }
+        return registries;
+    }
+
+    private LinkedHashSet<RandomizerRegistry> getSharedRandomizerRegistries(EasyRandomParameters parameters) {
         LinkedHashSet<RandomizerRegistry> registries = new LinkedHashSet<>();
         registries.add(parameters.getCustomRandomizerRegistry());
         registries.add(parameters.getExclusionRandomizerRegistry());
         registries.addAll(parameters.getUserRegistries());
-        registries.addAll(loadRegistries());
-        registries.forEach(registry -> registry.init(parameters));
         return registries;
     }
 
@@ -222,4 +624,27 @@ public class EasyRandom extends Random {
         return registries;
     }
 
+    private static List<Class<? extends RandomizerRegistry>> typesOf(final Collection<RandomizerRegistry> registries) {
+        List<Class<? extends RandomizerRegistry>> types = new ArrayList<>(registries.size());
+        for (RandomizerRegistry registry : registries) {
+            types.add(registry.getClass());
+        }
+        return Collections.unmodifiableList(types);
+    }
+
+    /*
+     * Create the registries of the given types without looking them up again with the ServiceLoader.
+     */
+    private static Collection<RandomizerRegistry> newRegistries(final List<Class<? extends RandomizerRegistry>> types) {
+        List<RandomizerRegistry> registries = new ArrayList<>(types.size());
+        for (Class<? extends RandomizerRegistry> type : types) {
+            try {
+                registries.add(type.newInstance());
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new ObjectCreationException("Unable to create randomizer registry " + type.getName(), e);
+            }
+        }
+        return registries;
+    }
+
 }
@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.Objects;
+
+/**
+ * Factory of {@link EasyRandom} instances sharing the same parameters.
+ *
+ * Creating an {@link EasyRandom} requires to discover randomizer registries, to initialize
+ * the registries of the parameters and to introspect each generated type. A factory does
+ * this work once: instances it creates share the custom randomizers and exclusions of the
+ * parameters, the discovered registry types, the exclusion decisions and the population plans,
+ * and only initialize what depends on their seed. This makes it cheap to create a new seeded
+ * instance per test for example. Instances created with the same seed generate the same objects
+ * as an {@link EasyRandom} created with the parameters of the factory and this seed.
+ *
+ * Registries of the parameters (see {@link EasyRandomParameters#randomizerRegistry}) are copied
+ * for each instance with {@link org.jeasy.random.api.RandomizerRegistry#copy(EasyRandomParameters)},
+ * which keeps their configuration and initializes them with the seed of the instance. Registries
+ * that can not be copied are shared by all instances as they have been configured, and are only
+ * initialized with the seed of the parameters of the factory. Custom randomizers are shared by all
+ * instances as well, like by all {@link EasyRandom} instances created with the same parameters,
+ * except the ones registered with {@link EasyRandomParameters#randomizeWithSeed(Class, java.util.function.LongFunction)},
+ * which are created with the seed of each instance.
+ *
+ * Parameters are copied when the factory is created. Custom randomizers, registries and exclusion
+ * predicates are shared with the given parameters though, so they must not be modified afterwards.
+ * Factories are thread safe.
+ *
+ * @author agent (agent@local)
+ */
+public final class EasyRandomFactory {
+
+    private final EasyRandomParameters parameters;
+
+    // holder of the shared state, never used to generate objects
+    private final EasyRandom prototype;
+
+    /**
+     * Create a new {@link EasyRandomFactory}.
+     *
+     * @param parameters of the instances to create
+     */
+    public EasyRandomFactory(final EasyRandomParameters parameters) {
+        Objects.requireNonNull(parameters, "Parameters must not be null");
+        this.parameters = parameters.copy();
+        this.prototype = new EasyRandom(this.parameters);
+    }
+
+    /**
+     * Create a new {@link EasyRandom} instance with the seed of the parameters of this factory.
+     *
+     * @return a new {@link EasyRandom} instance
+     */
+    public EasyRandom create() {
+        return create(parameters.getSeed());
+    }
+
+    /**
+     * Create a new {@link EasyRandom} instance with the given seed.
+     *
+     * @param seed of the instance
+     * @return a new {@link EasyRandom} instance
+     */
+    public EasyRandom create(final long seed) {
+        return prototype.derive(seed);
+    }
+
+    /**
+     * Return the parameters of the instances created by this factory.
+     *
+     * @return a copy of the parameters of this factory
+     */
+    public EasyRandomParameters getParameters() {
+        return parameters.copy();
+    }
+}
@@ -26,12 +26,14 @@ package org.jeasy.random;
 import org.jeasy.random.api.*;
 import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
 import org.jeasy.random.randomizers.registry.ExclusionRandomizerRegistry;
+import org.jeasy.random.util.IndexedPredicateSet;
 
 import java.lang.reflect.Field;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.util.*;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
@@ -95,9 +97,14 @@ public class EasyRandomParameters {
     private int randomizationDepth;
     private Charset charset;
     private boolean scanClasspathForConcreteTypes;
+    private Set<String> classpathScanPackages;
+    private boolean scanSystemModulesForConcreteTypes;
     private boolean overrideDefaultInitialization;
     private boolean ignoreRandomizationErrors;
     private boolean bypassSetters;
+    private PopulationEngine populationEngine;
+    private boolean constructorInjection;
+    private boolean threadSafe;
     private Range<Integer> collectionSizeRange;
     private Range<Integer> stringLengthRange;
     private Range<LocalDate> dateRange;
@@ -120,9 +127,14 @@ public class EasyRandomParameters {
         seed = DEFAULT_SEED;
         charset = DEFAULT_CHARSET;
         scanClasspathForConcreteTypes = false;
+        classpathScanPackages = new LinkedHashSet<>();
+        scanSystemModulesForConcreteTypes = false;
         overrideDefaultInitialization = false;
         ignoreRandomizationErrors = false;
         bypassSetters = false;
+        populationEngine = PopulationEngine.REFLECTIVE;
+        constructorInjection = false;
+        threadSafe = false;
         objectPoolSize = DEFAULT_OBJECT_POOL_SIZE;
         randomizationDepth = DEFAULT_RANDOMIZATION_DEPTH;
         dateRange = new Range<>(DEFAULT_DATES_RANGE.getMin().toLocalDate(), DEFAULT_DATES_RANGE.getMax().toLocalDate());
@@ -132,8 +144,8 @@ public class EasyRandomParameters {
         customRandomizerRegistry = new CustomRandomizerRegistry();
         exclusionRandomizerRegistry = new ExclusionRandomizerRegistry();
         userRegistries = new LinkedHashSet<>();
-        fieldExclusionPredicates = new HashSet<>();
-        typeExclusionPredicates = new HashSet<>();
+        fieldExclusionPredicates = IndexedPredicateSet.ofFieldPredicates();
+        typeExclusionPredicates = IndexedPredicateSet.ofTypePredicates();
         exclusionPolicy = new DefaultExclusionPolicy();
         objectFactory = new ObjenesisObjectFactory();
     }
@@ -208,6 +220,21 @@ public class EasyRandomParameters {
         this.scanClasspathForConcreteTypes = scanClasspathForConcreteTypes;
     }
 
+    public Set<String> getClasspathScanPackages() {
+        return classpathScanPackages;
+    }
+    public void setClasspathScanPackages(Set<String> classpathScanPackages) {
+        Objects.requireNonNull(classpathScanPackages, "Package names must not be null");
+        this.classpathScanPackages = classpathScanPackages;
+    }
+
+    public boolean isScanSystemModulesForConcreteTypes() {
+        return scanSystemModulesForConcreteTypes;
+    }
+    public void setScanSystemModulesForConcreteTypes(boolean scanSystemModulesForConcreteTypes) {
+        this.scanSystemModulesForConcreteTypes = scanSystemModulesForConcreteTypes;
+    }
+
     public boolean isOverrideDefaultInitialization() {
         return overrideDefaultInitialization;
     }
@@ -230,6 +257,31 @@ public class EasyRandomParameters {
         this.bypassSetters = bypassSetters;
     }
 
+    public PopulationEngine getPopulationEngine() {
+        return populationEngine;
+    }
+
+    public void setPopulationEngine(PopulationEngine populationEngine) {
+        Objects.requireNonNull(populationEngine, "Population engine must not be null");
+        this.populationEngine = populationEngine;
+    }
+
+    public boolean isConstructorInjection() {
+        return constructorInjection;
+    }
+
+    public void setConstructorInjection(boolean constructorInjection) {
+        this.constructorInjection = constructorInjection;
+    }
+
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
+    public void setThreadSafe(boolean threadSafe) {
+        this.threadSafe = threadSafe;
+    }
+
     public ExclusionPolicy getExclusionPolicy() {
         return exclusionPolicy;
     }
@@ -274,6 +326,14 @@ public class EasyRandomParameters {
         return userRegistries;
     }
 
+    void setCustomRandomizerRegistry(CustomRandomizerRegistry customRandomizerRegistry) {
+        this.customRandomizerRegistry = customRandomizerRegistry;
+    }
+
+    void setUserRegistries(Set<RandomizerRegistry> userRegistries) {
+        this.userRegistries = userRegistries;
+    }
+
     /**
      * Register a custom randomizer for the given field predicate.
      * <strong>The predicate must at least specify the field type</strong>
@@ -307,6 +367,50 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Register a factory of custom randomizers for the given field predicate.
+     * <strong>The predicate must at least specify the field type</strong>
+     *
+     * Unlike a randomizer registered with {@link #randomize(Predicate, Randomizer)}, the randomizer
+     * is created with the seed of the parameters, and created again with the seed of each instance
+     * derived from them (threads of a thread safe {@link EasyRandom}, indexes of
+     * {@link EasyRandom#nextObject(Class, long)}, etc.). Custom randomizers registered this way can
+     * therefore be used to generate objects by index. A randomizer that does not generate values
+     * from a seed (like a constant) can be registered with a factory ignoring the seed.
+     *
+     * @param predicate to identify the field
+     * @param randomizerFactory creating the randomizer from a seed
+     * @param <T> The field type
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     *
+     * @see FieldPredicates
+     */
+    public <T> EasyRandomParameters randomizeWithSeed(Predicate<Field> predicate, LongFunction<? extends Randomizer<T>> randomizerFactory) {
+        Objects.requireNonNull(predicate, "Predicate must not be null");
+        Objects.requireNonNull(randomizerFactory, "Randomizer factory must not be null");
+        customRandomizerRegistry.registerRandomizerFactory(predicate, randomizerFactory);
+        return this;
+    }
+
+    /**
+     * Register a factory of custom randomizers for a given type.
+     *
+     * Unlike a randomizer registered with {@link #randomize(Class, Randomizer)}, the randomizer
+     * is created with the seed of the parameters, and created again with the seed of each instance
+     * derived from them. See {@link #randomizeWithSeed(Predicate, LongFunction)}.
+     *
+     * @param type              class of the type to randomize
+     * @param randomizerFactory creating the custom {@link Randomizer} from a seed
+     * @param <T> The field type
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public <T> EasyRandomParameters randomizeWithSeed(Class<T> type, LongFunction<? extends Randomizer<T>> randomizerFactory) {
+        Objects.requireNonNull(type, "Type must not be null");
+        Objects.requireNonNull(randomizerFactory, "Randomizer factory must not be null");
+        customRandomizerRegistry.registerRandomizerFactory(type, randomizerFactory);
+        return this;
+    }
+
     /**
      * Exclude a field from being randomized.
      *
@@ -509,6 +613,36 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Restrict the classpath scanning for concrete types to the given packages (and their sub-packages).
+     * Scanning a few packages is much faster than scanning the whole classpath, which is the default.
+     *
+     * @param packageNames names of the packages to scan
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     * @see #scanClasspathForConcreteTypes(boolean)
+     */
+    public EasyRandomParameters classpathScanPackages(final String... packageNames) {
+        Objects.requireNonNull(packageNames, "Package names must not be null");
+        classpathScanPackages.addAll(Arrays.asList(packageNames));
+        return this;
+    }
+
+    /**
+     * Should the JDK modules (or jars on Java 8) be scanned as well when scanning the classpath
+     * for concrete types? JDK types are then candidates for fields with an interface or abstract
+     * class type of the JDK (like {@link Comparable}), at the price of a much longer scan.
+     *
+     * Deactivated by default.
+     *
+     * @param scanSystemModulesForConcreteTypes whether to scan the JDK modules or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     * @see #scanClasspathForConcreteTypes(boolean)
+     */
+    public EasyRandomParameters scanSystemModulesForConcreteTypes(boolean scanSystemModulesForConcreteTypes) {
+        setScanSystemModulesForConcreteTypes(scanSystemModulesForConcreteTypes);
+        return this;
+    }
+
     /**
      * With this parameter, any randomization error will be silently ignored and the corresponding field will be set to null.
      *
@@ -560,6 +694,116 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Set the engine used to write generated values in the fields of beans.
+     * {@link PopulationEngine#REFLECTIVE} by default.
+     *
+     * @param populationEngine the population engine to use
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters populationEngine(PopulationEngine populationEngine) {
+        setPopulationEngine(populationEngine);
+        return this;
+    }
+
+    /**
+     * Flag to create immutable beans through their constructor. False by default.
+     *
+     * When enabled, beans with a constructor annotated with {@link org.jeasy.random.annotation.RandomizedConstructor},
+     * or without no-arg constructor, are created by invoking the annotated (or the widest) constructor
+     * with random arguments, and their fields are not populated afterwards. Arguments are generated
+     * by type, or like the field of the same name and type when parameter names are available
+     * ({@code -parameters} compiler flag or {@link java.beans.ConstructorProperties}). This takes
+     * precedence over the {@link org.jeasy.random.api.ObjectFactory} for these beans.
+     *
+     * @param constructorInjection true if immutable beans should be created through their constructor
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters constructorInjection(boolean constructorInjection) {
+        setConstructorInjection(constructorInjection);
+        return this;
+    }
+
+    /**
+     * Flag to create {@link EasyRandom} instances that can be shared by multiple threads. False by default.
+     *
+     * In thread safe mode, each thread generates objects with its own delegate {@link EasyRandom}
+     * (with its own registries and randomizers) seeded from a split of the seed of these parameters,
+     * so threads never contend on a shared random stream. The n-th thread to use the instance gets
+     * the n-th split of the seed: what each thread generates depends on the order in which threads
+     * first use the instance, so it is only reproducible when a single thread uses it. Use
+     * {@link EasyRandom#parallelObjects(Class, long)} to generate reproducible objects concurrently.
+     *
+     * Registries of these parameters are copied for each thread with
+     * {@link RandomizerRegistry#copy(EasyRandomParameters)}, which keeps their configuration, and custom
+     * randomizers registered with {@link #randomizeWithSeed(Class, LongFunction)} are created for each
+     * thread. Other custom randomizers, registries that can not be copied, object factory and exclusion
+     * policy registered in these parameters are shared by all threads and must be thread safe.
+     * A custom {@link RandomizerProvider} can not be used in thread safe mode.
+     *
+     * @param threadSafe true if the {@link EasyRandom} instance will be shared by multiple threads
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters threadSafe(boolean threadSafe) {
+        setThreadSafe(threadSafe);
+        return this;
+    }
+
+    /**
+     * Create a copy of these parameters. Registries, predicates, exclusion policy,
+     * object factory and randomizer provider are shared with the copy.
+     *
+     * @return a copy of these parameters
+     */
+    EasyRandomParameters copy() {
+        EasyRandomParameters copy = new EasyRandomParameters();
+        copy.seed = seed;
+        copy.objectPoolSize = objectPoolSize;
+        copy.randomizationDepth = randomizationDepth;
+        copy.charset = charset;
+        copy.scanClasspathForConcreteTypes = scanClasspathForConcreteTypes;
+        copy.classpathScanPackages = classpathScanPackages;
+        copy.scanSystemModulesForConcreteTypes = scanSystemModulesForConcreteTypes;
+        copy.overrideDefaultInitialization = overrideDefaultInitialization;
+        copy.ignoreRandomizationErrors = ignoreRandomizationErrors;
+        copy.bypassSetters = bypassSetters;
+        copy.populationEngine = populationEngine;
+        copy.constructorInjection = constructorInjection;
+        copy.threadSafe = threadSafe;
+        copy.collectionSizeRange = collectionSizeRange;
+        copy.stringLengthRange = stringLengthRange;
+        copy.dateRange = dateRange;
+        copy.timeRange = timeRange;
+        copy.exclusionPolicy = exclusionPolicy;
+        copy.objectFactory = objectFactory;
+        copy.randomizerProvider = randomizerProvider;
+        copy.customRandomizerRegistry = customRandomizerRegistry;
+        copy.exclusionRandomizerRegistry = exclusionRandomizerRegistry;
+        copy.userRegistries = userRegistries;
+        copy.fieldExclusionPredicates = fieldExclusionPredicates;
+        copy.typeExclusionPredicates = typeExclusionPredicates;
+        return copy;
+    }
+
+    /**
+     * Engine used to write generated values in the fields of beans.
+     */
+    public enum PopulationEngine {
+
+        /**
+         * Values are written with reflection (or method handles) resolved for each field.
+         */
+        REFLECTIVE,
+
+        /**
+         * A writer class is generated at runtime for each bean type, which calls the setters and
+         * assigns the fields of the type directly. This requires ASM (org.ow2.asm:asm) on the classpath.
+         * Fields that the generated class can not access (private fields without accessible setter
+         * for example), and types for which no class can be generated, are written reflectively.
+         */
+        GENERATED
+    }
+
     /**
      * Utility class to hold a range of values.
      *
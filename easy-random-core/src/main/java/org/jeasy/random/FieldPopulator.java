@@ -24,9 +24,11 @@
 package org.jeasy.random;
 
 import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.PrimitiveRandomizer;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerProvider;
 import org.jeasy.random.randomizers.misc.SkipRandomizer;
+import org.jeasy.random.util.FieldAccessor;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -59,6 +61,8 @@ class FieldPopulator {
 
     private final RandomizerProvider randomizerProvider;
 
+    private final FieldWriter defaultWriter = FieldPopulator::writeField;
+
     FieldPopulator(final EasyRandom easyRandom, final RandomizerProvider randomizerProvider,
                    final ArrayPopulator arrayPopulator, final CollectionPopulator collectionPopulator, final MapPopulator mapPopulator) {
         this.easyRandom = easyRandom;
@@ -69,6 +73,10 @@ class FieldPopulator {
     }
 
     void populateField(final Object target, final Field field, final RandomizationContext context) throws IllegalAccessException {
+        populateField(target, field, context, defaultWriter);
+    }
+
+    void populateField(final Object target, final Field field, final RandomizationContext context, final FieldWriter writer) throws IllegalAccessException {
         Randomizer<?> randomizer = getRandomizer(field, context);
         if (randomizer instanceof SkipRandomizer) {
             return;
@@ -76,8 +84,12 @@ class FieldPopulator {
         if (randomizer instanceof ContextAwareRandomizer) {
             ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
         }
-        context.pushStackItem(new RandomizationContextStackItem(target, field));
+        context.pushStackItem(target, field);
         if(!context.hasExceededRandomizationDepth()) {
+            if (writer == defaultWriter && writePrimitiveValue(target, field, randomizer, context)) {
+                context.popStackItem();
+                return;
+            }
             Object value;
             if (randomizer != null) {
                 value = randomizer.getRandomValue();
@@ -85,27 +97,87 @@ class FieldPopulator {
                 try {
                     value = generateRandomValue(field, context);
                 } catch (ObjectCreationException e) {
+                    // the target is null when the value is generated for a constructor argument
+                    Class<?> targetType = target != null ? target.getClass() : field.getDeclaringClass();
                     String exceptionMessage = String.format("Unable to create type: %s for field: %s of class: %s",
-                          field.getType().getName(), field.getName(), target.getClass().getName());
+                          field.getType().getName(), field.getName(), targetType.getName());
                     // FIXME catch ObjectCreationException and throw ObjectCreationException ?
                     throw new ObjectCreationException(exceptionMessage, e);
                 }
             }
-            if (context.getParameters().isBypassSetters()) {
-                setFieldValue(target, field, value);
-            } else {
-                try {
-                    setProperty(target, field, value);
-                } catch (InvocationTargetException e) {
-                    String exceptionMessage = String.format("Unable to invoke setter for field %s of class %s",
-                            field.getName(), target.getClass().getName());
-                    throw new ObjectCreationException(exceptionMessage,  e.getCause());
-                }
-            }
+            writer.write(target, field, value, context);
         }
         context.popStackItem();
     }
 
+    static void writeField(final Object target, final Field field, final Object value, final RandomizationContext context) throws IllegalAccessException {
+        if (context.getParameters().isBypassSetters()) {
+            FieldAccessor.of(field).set(target, value);
+        } else {
+            try {
+                setProperty(target, field, value);
+            } catch (InvocationTargetException e) {
+                throw setterInvocationFailure(target, field, e.getCause());
+            }
+        }
+    }
+
+    static ObjectCreationException setterInvocationFailure(final Object target, final Field field, final Throwable cause) {
+        String exceptionMessage = String.format("Unable to invoke setter for field %s of class %s",
+                field.getName(), target.getClass().getName());
+        return new ObjectCreationException(exceptionMessage,  cause);
+    }
+
+    /*
+     * Generate and write the value of a primitive field without boxing it. This is only possible
+     * when the randomizer is specialized for the type of the field (and does not override the boxed
+     * method, see PrimitiveRandomizers) and when the value is written
+     * directly in the field (a setter would take a boxed argument). Returns false if the value
+     * should be generated and written through the regular path.
+     */
+    private boolean writePrimitiveValue(final Object target, final Field field, final Randomizer<?> randomizer, final RandomizationContext context) throws IllegalAccessException {
+        Class<?> fieldType = field.getType();
+        if (!fieldType.isPrimitive() || !PrimitiveRandomizers.canBeUnboxed(randomizer)) {
+            return false;
+        }
+        if (!context.getParameters().isBypassSetters() && hasInvocableSetter(target.getClass(), field)) {
+            return false;
+        }
+        FieldAccessor accessor = FieldAccessor.of(field);
+        if (fieldType == int.class && randomizer instanceof PrimitiveRandomizer.OfInt) {
+            accessor.setInt(target, ((PrimitiveRandomizer.OfInt) randomizer).nextInt());
+        } else if (fieldType == long.class && randomizer instanceof PrimitiveRandomizer.OfLong) {
+            accessor.setLong(target, ((PrimitiveRandomizer.OfLong) randomizer).nextLong());
+        } else if (fieldType == double.class && randomizer instanceof PrimitiveRandomizer.OfDouble) {
+            accessor.setDouble(target, ((PrimitiveRandomizer.OfDouble) randomizer).nextDouble());
+        } else if (fieldType == char.class && randomizer instanceof PrimitiveRandomizer.OfChar) {
+            accessor.setChar(target, ((PrimitiveRandomizer.OfChar) randomizer).nextChar());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Generate a random value of the given type like for a field of this type
+     * (randomizer registered for the type if any, generated value otherwise).
+     *
+     * @param type        the type of the value
+     * @param genericType the generic type of the value
+     * @param context     the current randomization context
+     * @return the generated value, null if the type should be skipped
+     */
+    Object generateRandomValueOfType(final Class<?> type, final Type genericType, final RandomizationContext context) {
+        Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
+        if (randomizer instanceof SkipRandomizer) {
+            return null;
+        }
+        if (randomizer instanceof ContextAwareRandomizer) {
+            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+        }
+        return randomizer != null ? randomizer.getRandomValue() : generateRandomValue(type, genericType, context);
+    }
+
     private Randomizer<?> getRandomizer(Field field, RandomizationContext context) {
         // issue 241: if there is no custom randomizer by field, then check by type
         Randomizer<?> randomizer = randomizerProvider.getRandomizerByField(field, context);
@@ -116,19 +188,30 @@ class FieldPopulator {
     }
 
     private Object generateRandomValue(final Field field, final RandomizationContext context) {
-        Class<?> fieldType = field.getType();
-        Type fieldGenericType = field.getGenericType();
+        return generateRandomValue(field.getType(), field.getGenericType(), context);
+    }
 
+    /**
+     * Generate a random value of the given type: arrays, collections and maps are generated
+     * by their populator, other types are populated as beans.
+     *
+     * @param fieldType        the type of the value
+     * @param fieldGenericType the generic type of the value
+     * @param context          the current randomization context
+     * @return the generated value
+     */
+    Object generateRandomValue(final Class<?> fieldType, final Type fieldGenericType, final RandomizationContext context) {
         Object value;
         if (isArrayType(fieldType)) {
             value = arrayPopulator.getRandomArray(fieldType, context);
         } else if (isCollectionType(fieldType)) {
-            value = collectionPopulator.getRandomCollection(field, context);
+            value = collectionPopulator.getRandomCollection(fieldType, fieldGenericType, context);
         } else if (isMapType(fieldType)) {
-            value = mapPopulator.getRandomMap(field, context);
+            value = mapPopulator.getRandomMap(fieldType, fieldGenericType, context);
         } else {
-            if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(fieldType) && !isEnumType(fieldType) /*enums can be abstract, but can not inherit*/) {
-                Class<?> randomConcreteSubType = randomElementOf(filterSameParameterizedTypes(getPublicConcreteSubTypesOf(fieldType), fieldGenericType));
+            EasyRandomParameters parameters = context.getParameters();
+            if (parameters.isScanClasspathForConcreteTypes() && isAbstract(fieldType) && !isEnumType(fieldType) /*enums can be abstract, but can not inherit*/) {
+                Class<?> randomConcreteSubType = randomElementOf(filterSameParameterizedTypes(context.getConcreteSubTypes().getPublicConcreteSubTypesOf(fieldType), fieldGenericType), context.getRandom());
                 if (randomConcreteSubType == null) {
                     throw new ObjectCreationException("Unable to find a matching concrete subtype of type: " + fieldType);
                 } else {
@@ -140,4 +223,12 @@ class FieldPopulator {
         }
         return value;
     }
+
+    /**
+     * Strategy used to write a generated value in a field of the target object.
+     */
+    @FunctionalInterface
+    interface FieldWriter {
+        void write(Object target, Field field, Object value, RandomizationContext context) throws IllegalAccessException;
+    }
 }
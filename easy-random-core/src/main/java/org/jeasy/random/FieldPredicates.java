@@ -23,8 +23,12 @@
  */
 package org.jeasy.random;
 
+import org.jeasy.random.util.FieldPredicate;
+
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -36,10 +40,17 @@ import java.util.regex.Pattern;
  *     Predicate&lt;Field&gt; predicate = named("name").and(ofType(String.class)).and(inClass(Person.class));
  *</pre>
  *
+ * Predicates created by this class expose the name, type, declaring class and annotations
+ * they require (see {@link FieldPredicate}), so that registries can look them up
+ * without testing all of them against each field.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 public class FieldPredicates {
 
+    // a name pattern made of word characters only matches itself
+    private static final Pattern LITERAL_NAME = Pattern.compile("\\w+");
+
     /**
      * Create a predicate to check that a field has a certain name pattern.
      *
@@ -48,7 +59,8 @@ public class FieldPredicates {
      */
     public static Predicate<Field> named(final String name) {
         final Pattern pattern = Pattern.compile(name);
-        return field -> pattern.matcher(field.getName()).matches();
+        Predicate<Field> predicate = field -> pattern.matcher(field.getName()).matches();
+        return LITERAL_NAME.matcher(name).matches() ? FieldPredicate.withName(predicate, name) : FieldPredicate.of(predicate);
     }
 
     /**
@@ -58,7 +70,7 @@ public class FieldPredicates {
      * @return Predicate to check that a field has a certain type
      */
     public static Predicate<Field> ofType(Class<?> type) {
-        return field -> field.getType().equals(type);
+        return FieldPredicate.withType(field -> field.getType().equals(type), type);
     }
 
     /**
@@ -68,7 +80,7 @@ public class FieldPredicates {
      * @return Predicate to check that a field is defined in a given class.
      */
     public static Predicate<Field> inClass(Class<?> clazz) {
-        return field -> field.getDeclaringClass().equals(clazz);
+        return FieldPredicate.withDeclaringClass(field -> field.getDeclaringClass().equals(clazz), clazz);
     }
 
     /**
@@ -77,15 +89,16 @@ public class FieldPredicates {
      * @param annotations present on the field
      * @return Predicate to check that a field is annotated with one of the given annotations.
      */
+    @SafeVarargs
     public static Predicate<Field> isAnnotatedWith(Class<? extends Annotation>... annotations) {
-        return field -> {
+        return FieldPredicate.withAnnotations(field -> {
             for (Class<? extends Annotation> annotation : annotations) {
                 if (field.isAnnotationPresent(annotation)) {
                     return true;
                 }
             }
             return false;
-        };
+        }, new LinkedHashSet<>(Arrays.asList(annotations)));
     }
 
     /**
@@ -95,7 +108,7 @@ public class FieldPredicates {
      * @return Predicate to check that a field has a given set of modifiers
      */
     public static Predicate<Field> hasModifiers(final Integer modifiers) {
-        return field -> (modifiers & field.getModifiers()) == modifiers;
+        return FieldPredicate.of(field -> (modifiers & field.getModifiers()) == modifiers);
     }
 
 }
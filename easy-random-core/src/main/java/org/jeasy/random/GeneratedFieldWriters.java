@@ -0,0 +1,400 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.util.ReflectionUtils;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.ProtectionDomain;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Writers of the fields of a bean type backed by a class generated at runtime, used by the
+ * {@link EasyRandomParameters.PopulationEngine#GENERATED} engine.
+ *
+ * The class is generated once per bean type (and per setter mode) and defined in the class
+ * loader and the package of the bean type. It writes each field with straight-line code: a call
+ * to the setter of the field, or an assignment of the field when setters are bypassed or when
+ * the field has no setter. The following fields are written by the {@link FieldPopulator}
+ * as with the reflective engine:
+ * <ul>
+ *     <li>fields that the generated class can not access (like private fields without accessible setter)</li>
+ *     <li>primitive fields without setter, which the {@link FieldPopulator} writes without boxing</li>
+ *     <li>values that can not be passed as is (like values that need a widening conversion)</li>
+ * </ul>
+ * When ASM is not on the classpath or when the class can not be defined (security restrictions,
+ * class loader that does not see Easy Random, etc), all fields are written by the {@link FieldPopulator}.
+ *
+ * @author agent (agent@local)
+ */
+final class GeneratedFieldWriters {
+
+    private static final boolean ASM_AVAILABLE = isClassAvailable("org.objectweb.asm.ClassWriter");
+
+    // writers are attached to the bean type so they do not outlive its classloader
+    private static final ClassValue<GeneratedFieldWriters> generatedFieldWriters = new ClassValue<GeneratedFieldWriters>() {
+        @Override
+        protected GeneratedFieldWriters computeValue(Class<?> type) {
+            return new GeneratedFieldWriters(type);
+        }
+    };
+
+    private static final FieldPopulator.FieldWriter[] NO_WRITERS = new FieldPopulator.FieldWriter[0];
+
+    private final Class<?> beanType;
+
+    // writers calling setters and writers bypassing them, generated on first use
+    private volatile Writers setterWriters;
+    private volatile Writers fieldWriters;
+
+    private GeneratedFieldWriters(final Class<?> beanType) {
+        this.beanType = beanType;
+    }
+
+    /**
+     * Get the generated writers of the given fields of a bean type.
+     *
+     * @param beanType      the type of the bean to populate
+     * @param fields        the fields to populate
+     * @param bypassSetters true if fields should be written without calling their setter
+     * @return the writer of each field (null if the field should be written by the {@link FieldPopulator}),
+     * or null if no class can be generated for the bean type
+     */
+    static FieldPopulator.FieldWriter[] of(final Class<?> beanType, final List<Field> fields, final boolean bypassSetters) {
+        if (!ASM_AVAILABLE) {
+            return null;
+        }
+        Writers writers = generatedFieldWriters.get(beanType).get(fields, bypassSetters);
+        // the class is generated for the fields of the first population, which are the same for each population
+        if (writers.writers == NO_WRITERS || (writers.fields != fields && !writers.fields.equals(fields))) {
+            return null;
+        }
+        return writers.writers;
+    }
+
+    private Writers get(final List<Field> fields, final boolean bypassSetters) {
+        Writers writers = bypassSetters ? fieldWriters : setterWriters;
+        if (writers == null) {
+            synchronized (this) {
+                writers = bypassSetters ? fieldWriters : setterWriters;
+                if (writers == null) {
+                    writers = new Writers(fields, generate(beanType, fields, bypassSetters));
+                    if (bypassSetters) {
+                        fieldWriters = writers;
+                    } else {
+                        setterWriters = writers;
+                    }
+                }
+            }
+        }
+        return writers;
+    }
+
+    private static FieldPopulator.FieldWriter[] generate(final Class<?> beanType, final List<Field> fields, final boolean bypassSetters) {
+        if (beanType.getClassLoader() == null || beanType.isInterface() || beanType.isArray() || beanType.isPrimitive()) {
+            return NO_WRITERS;
+        }
+        Member[] members = new Member[fields.size()];
+        boolean generated = false;
+        for (int i = 0; i < members.length; i++) {
+            members[i] = getWrittenMember(beanType, fields.get(i), bypassSetters);
+            generated |= members[i] != null;
+        }
+        if (!generated) {
+            return NO_WRITERS;
+        }
+        String name = beanType.getName() + (bypassSetters ? "$EasyRandomFieldWriter" : "$EasyRandomSetterWriter");
+        try {
+            Class<?> writerClass = defineClass(beanType, name, generateClass(name, beanType, members));
+            BeanWriter beanWriter = (BeanWriter) writerClass.newInstance();
+            FieldPopulator.FieldWriter[] writers = new FieldPopulator.FieldWriter[members.length];
+            for (int i = 0; i < members.length; i++) {
+                if (members[i] != null) {
+                    writers[i] = new GeneratedFieldWriter(beanWriter, i, members[i]);
+                }
+            }
+            return writers;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // class loader that does not see BeanWriter, security restrictions, etc
+            return NO_WRITERS;
+        }
+    }
+
+    /*
+     * Get the member (setter or field) that the generated class should use to write the given field,
+     * null if the field should be written by the FieldPopulator.
+     */
+    private static Member getWrittenMember(final Class<?> beanType, final Field field, final boolean bypassSetters) {
+        if (!bypassSetters) {
+            Method setter = getSetter(beanType, field);
+            // setters of non public classes can not be invoked reflectively, their field is written instead
+            if (setter != null && Modifier.isPublic(setter.getDeclaringClass().getModifiers())) {
+                return isAccessible(setter.getParameterTypes()[0], beanType) ? setter : null;
+            }
+        }
+        int modifiers = field.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isFinal(modifiers) || Modifier.isStatic(modifiers) || field.getType().isPrimitive()) {
+            return null;
+        }
+        Class<?> declaringClass = field.getDeclaringClass();
+        boolean accessible = isSamePackage(declaringClass, beanType)
+                || Modifier.isPublic(modifiers) && Modifier.isPublic(declaringClass.getModifiers());
+        return accessible && isAccessible(field.getType(), beanType) ? field : null;
+    }
+
+    private static Method getSetter(final Class<?> beanType, final Field field) {
+        // same resolution as the reflective engine
+        try {
+            return new PropertyDescriptor(field.getName(), beanType).getWriteMethod();
+        } catch (IntrospectionException e) {
+            return null;
+        }
+    }
+
+    private static boolean isAccessible(final Class<?> type, final Class<?> beanType) {
+        Class<?> elementType = type;
+        while (elementType.isArray()) {
+            elementType = elementType.getComponentType();
+        }
+        if (elementType.isPrimitive() || isSamePackage(elementType, beanType)) {
+            return true;
+        }
+        for (Class<?> enclosingType = elementType; enclosingType != null; enclosingType = enclosingType.getEnclosingClass()) {
+            if (!Modifier.isPublic(enclosingType.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSamePackage(final Class<?> type, final Class<?> otherType) {
+        return type.getClassLoader() == otherType.getClassLoader() && getPackageName(type).equals(getPackageName(otherType));
+    }
+
+    private static String getPackageName(final Class<?> type) {
+        String name = type.getName();
+        int lastDot = name.lastIndexOf('.');
+        return lastDot == -1 ? "" : name.substring(0, lastDot);
+    }
+
+    /*
+     * Generate a BeanWriter writing the member at each index:
+     *
+     * public void write(Object bean, int index, Object value) {
+     *     switch (index) {
+     *         case 0: ((BeanType) bean).setName((String) value); return;
+     *         case 1: ((BeanType) bean).age = (Integer) value; return;
+     *         ...
+     *         default: throw new IllegalArgumentException();
+     *     }
+     * }
+     *
+     * The class file version does not require stack map frames, so they do not have to be computed.
+     */
+    private static byte[] generateClass(final String name, final Class<?> beanType, final Member[] members) {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(V1_5, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name.replace('.', '/'), null,
+                "java/lang/Object", new String[] {Type.getInternalName(BeanWriter.class)});
+
+        MethodVisitor constructor = classWriter.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        MethodVisitor write = classWriter.visitMethod(ACC_PUBLIC, "write", "(Ljava/lang/Object;ILjava/lang/Object;)V", null, null);
+        write.visitCode();
+        Label defaultLabel = new Label();
+        Label[] labels = new Label[members.length];
+        for (int i = 0; i < members.length; i++) {
+            labels[i] = members[i] == null ? defaultLabel : new Label();
+        }
+        write.visitVarInsn(ILOAD, 2);
+        write.visitTableSwitchInsn(0, members.length - 1, defaultLabel, labels);
+        for (int i = 0; i < members.length; i++) {
+            if (members[i] == null) {
+                continue;
+            }
+            write.visitLabel(labels[i]);
+            if (members[i] instanceof Method) {
+                Method setter = (Method) members[i];
+                write.visitVarInsn(ALOAD, 1);
+                write.visitTypeInsn(CHECKCAST, Type.getInternalName(beanType));
+                write.visitVarInsn(ALOAD, 3);
+                visitCast(write, setter.getParameterTypes()[0]);
+                write.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(beanType), setter.getName(), Type.getMethodDescriptor(setter), false);
+                Class<?> returnType = setter.getReturnType();
+                if (returnType == long.class || returnType == double.class) {
+                    write.visitInsn(POP2);
+                } else if (returnType != void.class) {
+                    write.visitInsn(POP);
+                }
+            } else {
+                Field field = (Field) members[i];
+                String owner = Type.getInternalName(field.getDeclaringClass());
+                write.visitVarInsn(ALOAD, 1);
+                write.visitTypeInsn(CHECKCAST, owner);
+                write.visitVarInsn(ALOAD, 3);
+                visitCast(write, field.getType());
+                write.visitFieldInsn(PUTFIELD, owner, field.getName(), Type.getDescriptor(field.getType()));
+            }
+            write.visitInsn(RETURN);
+        }
+        write.visitLabel(defaultLabel);
+        write.visitTypeInsn(NEW, "java/lang/IllegalArgumentException");
+        write.visitInsn(DUP);
+        write.visitMethodInsn(INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "()V", false);
+        write.visitInsn(ATHROW);
+        write.visitMaxs(0, 0);
+        write.visitEnd();
+
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private static void visitCast(final MethodVisitor methodVisitor, final Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapperType = Type.getInternalName(ReflectionUtils.getWrapperType(type));
+            methodVisitor.visitTypeInsn(CHECKCAST, wrapperType);
+            methodVisitor.visitMethodInsn(INVOKEVIRTUAL, wrapperType, type.getName() + "Value", "()" + Type.getDescriptor(type), false);
+        } else if (type != Object.class) {
+            methodVisitor.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+        }
+    }
+
+    /*
+     * Define the class in the package of the bean type: with a private lookup in this package on
+     * Java 9+, with the class loader of the bean type otherwise.
+     */
+    private static Class<?> defineClass(final Class<?> beanType, final String name, final byte[] bytes) throws ReflectiveOperationException {
+        try {
+            Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+            Method defineClass = MethodHandles.Lookup.class.getMethod("defineClass", byte[].class);
+            Object lookup = privateLookupIn.invoke(null, beanType, MethodHandles.lookup());
+            return (Class<?>) defineClass.invoke(lookup, (Object) bytes);
+        } catch (NoSuchMethodException e) {
+            Method defineClass = ClassLoader.class.getDeclaredMethod("defineClass",
+                    String.class, byte[].class, int.class, int.class, ProtectionDomain.class);
+            defineClass.setAccessible(true);
+            return (Class<?>) defineClass.invoke(beanType.getClassLoader(), name, bytes, 0, bytes.length, beanType.getProtectionDomain());
+        }
+    }
+
+    private static boolean isClassAvailable(final String className) {
+        try {
+            Class.forName(className, false, GeneratedFieldWriters.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Interface of the generated classes, public so that classes generated in the package of the
+     * bean type can implement it.
+     */
+    public interface BeanWriter {
+
+        /**
+         * Write a value in the field at the given index.
+         *
+         * @param bean  the bean to write the field of
+         * @param index the index of the field in the fields of the bean type
+         * @param value the value to write, of the type of the field (or of the parameter of its setter)
+         */
+        void write(Object bean, int index, Object value);
+    }
+
+    private static final class Writers {
+
+        private final List<Field> fields;
+
+        private final FieldPopulator.FieldWriter[] writers;
+
+        private Writers(final List<Field> fields, final FieldPopulator.FieldWriter[] writers) {
+            this.fields = fields;
+            this.writers = writers;
+        }
+    }
+
+    private static final class GeneratedFieldWriter implements FieldPopulator.FieldWriter {
+
+        private final BeanWriter beanWriter;
+
+        private final int index;
+
+        private final boolean setter;
+
+        private final Class<?> valueType;
+
+        private final boolean primitive;
+
+        private GeneratedFieldWriter(final BeanWriter beanWriter, final int index, final Member member) {
+            this.beanWriter = beanWriter;
+            this.index = index;
+            this.setter = member instanceof Method;
+            Class<?> type = setter ? ((Method) member).getParameterTypes()[0] : ((Field) member).getType();
+            this.primitive = type.isPrimitive();
+            this.valueType = primitive ? ReflectionUtils.getWrapperType(type) : type;
+        }
+
+        @Override
+        public void write(final Object target, final Field field, final Object value, final RandomizationContext context) throws IllegalAccessException {
+            if (!isAssignableWithoutConversion(value)) {
+                FieldPopulator.writeField(target, field, value, context);
+                return;
+            }
+            if (!setter) {
+                beanWriter.write(target, index, value);
+                return;
+            }
+            try {
+                beanWriter.write(target, index, value);
+            } catch (Throwable throwable) {
+                throw FieldPopulator.setterInvocationFailure(target, field, throwable);
+            }
+        }
+
+        private boolean isAssignableWithoutConversion(final Object value) {
+            if (primitive) {
+                return value != null && value.getClass() == valueType;
+            }
+            return value == null || valueType.isInstance(value);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * {@link Spliterator} over a range of indexes, where the element at each index is
+ * generated independently of the others. Splitting divides the range of indexes in
+ * two halves, so the spliterator is {@link #SIZED} and {@link #SUBSIZED}.
+ *
+ * @param <T> type of the generated elements
+ * @author agent (agent@local)
+ */
+class IndexedObjectSpliterator<T> implements Spliterator<T> {
+
+    private final LongFunction<T> generator;
+
+    private long index;
+
+    private final long end;
+
+    /**
+     * Create a new {@link IndexedObjectSpliterator}.
+     *
+     * @param generator of the element at a given index
+     * @param start     index of the first element (inclusive)
+     * @param end       index of the last element (exclusive)
+     */
+    IndexedObjectSpliterator(final LongFunction<T> generator, final long start, final long end) {
+        this.generator = generator;
+        this.index = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (index < end) {
+            action.accept(generator.apply(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        long i = index;
+        index = end;
+        for (; i < end; i++) {
+            action.accept(generator.apply(i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long start = index;
+        long middle = (start + end) >>> 1;
+        if (middle <= start) {
+            return null;
+        }
+        index = middle;
+        return new IndexedObjectSpliterator<>(generator, start, middle);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
@@ -24,7 +24,6 @@
 package org.jeasy.random;
 
 import org.jeasy.random.api.ObjectFactory;
-import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
@@ -50,29 +49,34 @@ class MapPopulator {
         this.objectFactory = objectFactory;
     }
 
-    @SuppressWarnings("unchecked")
     Map<?, ?> getRandomMap(final Field field, final RandomizationContext context) {
+        return getRandomMap(field.getType(), field.getGenericType(), context);
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<?, ?> getRandomMap(final Class<?> fieldType, final Type fieldGenericType, final RandomizationContext context) {
         int randomSize = getRandomMapSize(context.getParameters());
-        Class<?> fieldType = field.getType();
-        Type fieldGenericType = field.getGenericType();
         Map<Object, Object> map;
 
         if (isInterface(fieldType)) {
-            map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType);
+            map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType, randomSize);
         } else {
-            try {
-                map = (Map<Object, Object>) fieldType.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                // Creating EnumMap with objenesis by-passes the constructor with keyType which leads to CCE at insertion time
-                if (fieldType.isAssignableFrom(EnumMap.class)) {
-                    if (isParameterizedType(fieldGenericType)) {
-                        Type type = ((ParameterizedType) fieldGenericType).getActualTypeArguments()[0];
-                        map = new EnumMap((Class<?>)type);
+            map = (Map<Object, Object>) createPresizedMapForType(fieldType, randomSize);
+            if (map == null) {
+                try {
+                    map = (Map<Object, Object>) fieldType.newInstance();
+                } catch (InstantiationException | IllegalAccessException e) {
+                    // Creating EnumMap with objenesis by-passes the constructor with keyType which leads to CCE at insertion time
+                    if (fieldType.isAssignableFrom(EnumMap.class)) {
+                        if (isParameterizedType(fieldGenericType)) {
+                            Type type = ((ParameterizedType) fieldGenericType).getActualTypeArguments()[0];
+                            map = new EnumMap((Class<?>)type);
+                        } else {
+                            return null;
+                        }
                     } else {
-                        return null;
+                        map = (Map<Object, Object>) objectFactory.createInstance(fieldType, context);
                     }
-                } else {
-                    map = (Map<Object, Object>) objectFactory.createInstance(fieldType, context);
                 }
             }
         }
@@ -95,8 +99,7 @@ class MapPopulator {
     }
 
     private int getRandomMapSize(EasyRandomParameters parameters) {
-        EasyRandomParameters.Range<Integer> collectionSizeRange = parameters.getCollectionSizeRange();
-        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), parameters.getSeed()).getRandomValue();
+        return SizeSampler.sample(parameters.getCollectionSizeRange(), parameters.getSeed());
     }
 
 }
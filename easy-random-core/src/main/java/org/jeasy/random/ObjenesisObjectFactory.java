@@ -27,8 +27,14 @@ import org.jeasy.random.api.ObjectFactory;
 import org.jeasy.random.api.RandomizerContext;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+import static java.lang.invoke.MethodType.methodType;
 
 import static org.jeasy.random.util.CollectionUtils.randomElementOf;
 import static org.jeasy.random.util.ReflectionUtils.getPublicConcreteSubTypesOf;
@@ -37,17 +43,34 @@ import static org.jeasy.random.util.ReflectionUtils.isAbstract;
 /**
  * Objenesis based factory to create "fancy" objects: immutable java beans, generic types, abstract and interface types.
  *
+ * Types are instantiated with their no-arg constructor (accessible or not) when they have one,
+ * with Objenesis otherwise. The instantiation strategy of a type is resolved once and cached.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 @SuppressWarnings({"unchecked"})
 class ObjenesisObjectFactory implements ObjectFactory {
 
-    private final Objenesis objenesis = new ObjenesisStd();
+    private static final Objenesis OBJENESIS = new ObjenesisStd();
+
+    private static final ClassValue<Instantiator> instantiators = new ClassValue<Instantiator>() {
+        @Override
+        protected Instantiator computeValue(Class<?> type) {
+            return new Instantiator(type);
+        }
+    };
 
     @Override
     public <T> T createInstance(Class<T> type, RandomizerContext context) {
         if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(type)) {
-            Class<?> randomConcreteSubType = randomElementOf(getPublicConcreteSubTypesOf((type)));
+            Class<?> randomConcreteSubType;
+            if (context instanceof RandomizationContext) {
+                RandomizationContext randomizationContext = (RandomizationContext) context;
+                randomConcreteSubType = randomElementOf(randomizationContext.getConcreteSubTypes().getPublicConcreteSubTypesOf(type), randomizationContext.getRandom());
+            } else {
+                EasyRandomParameters parameters = context.getParameters();
+                randomConcreteSubType = randomElementOf(getPublicConcreteSubTypesOf(type, parameters.getClasspathScanPackages(), parameters.isScanSystemModulesForConcreteTypes()));
+            }
             if (randomConcreteSubType == null) {
                 throw new InstantiationError("Unable to find a matching concrete subtype of type: " + type + " in the classpath");
             } else {
@@ -63,15 +86,67 @@ class ObjenesisObjectFactory implements ObjectFactory {
     }
 
     private <T> T createNewInstance(final Class<T> type) {
-        try {
-            Constructor<T> noArgConstructor = type.getDeclaredConstructor();
-            if (!noArgConstructor.isAccessible()) {
-                noArgConstructor.setAccessible(true);
+        return (T) instantiators.get(type).newInstance();
+    }
+
+    /**
+     * Instantiation strategy of a type: its no-arg constructor if it has a usable one,
+     * an Objenesis {@link ObjectInstantiator} otherwise. When the constructor throws an
+     * exception, Objenesis is used for this instance only: the constructor is called again
+     * for the next ones, as its failure may depend on the state at the time of the call.
+     */
+    private static final class Instantiator {
+
+        private final Class<?> type;
+
+        // ()Object view of the no-arg constructor, null if the type does not have a usable one
+        private final MethodHandle constructor;
+
+        private volatile ObjectInstantiator<?> objenesisInstantiator;
+
+        private Instantiator(final Class<?> type) {
+            this.type = type;
+            this.constructor = noArgConstructorOf(type);
+        }
+
+        Object newInstance() {
+            if (constructor != null) {
+                try {
+                    return constructor.invokeExact();
+                } catch (Exception exception) {
+                    // fall back to objenesis for this instance
+                } catch (Error error) {
+                    throw error;
+                } catch (Throwable throwable) {
+                    throw new IllegalStateException(throwable);
+                }
             }
-            return noArgConstructor.newInstance();
-        } catch (Exception exception) {
-            return objenesis.newInstance(type);
+            return getObjenesisInstantiator().newInstance();
+        }
+
+        private ObjectInstantiator<?> getObjenesisInstantiator() {
+            ObjectInstantiator<?> instantiator = objenesisInstantiator;
+            if (instantiator == null) {
+                instantiator = OBJENESIS.getInstantiatorOf(type);
+                objenesisInstantiator = instantiator;
+            }
+            return instantiator;
         }
-    }
 
+        private static MethodHandle noArgConstructorOf(final Class<?> type) {
+            if (Modifier.isAbstract(type.getModifiers())) {
+                return null;
+            }
+            try {
+                Constructor<?> noArgConstructor = type.getDeclaredConstructor();
+                if (!noArgConstructor.isAccessible()) {
+                    noArgConstructor.setAccessible(true);
+                }
+                return MethodHandles.lookup().unreflectConstructor(noArgConstructor)
+                        .asType(methodType(Object.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+    }
 }
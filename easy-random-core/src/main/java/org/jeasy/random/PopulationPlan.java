@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.jeasy.random.util.ReflectionUtils.getInheritedFields;
+
+/**
+ * Result of the introspection of a type, computed once and replayed each time
+ * an instance of this type is populated.
+ *
+ * A plan holds the context independent part of the population of a type: whether
+ * the type should be introspected at all and the ordered list of fields to populate
+ * (declared fields first, then inherited ones). Exclusion decisions and randomizer
+ * lookups depend on the randomization context, so they are not part of the plan.
+ *
+ * @author agent (agent@local)
+ */
+class PopulationPlan {
+
+    private final Class<?> type;
+
+    private final boolean introspectable;
+
+    private final boolean innerType;
+
+    private final List<Field> fields;
+
+    private PopulationPlan(final Class<?> type) {
+        this.type = type;
+        this.introspectable = ReflectionUtils.isIntrospectable(type);
+        // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
+        // This field should be excluded
+        this.innerType = type.getEnclosingClass() != null;
+        this.fields = introspectable ? Collections.unmodifiableList(introspectFields(type)) : Collections.emptyList();
+    }
+
+    static PopulationPlan of(final Class<?> type) {
+        return new PopulationPlan(type);
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    boolean isIntrospectable() {
+        return introspectable;
+    }
+
+    /**
+     * Get the fields to populate on an instance of the planned type.
+     *
+     * @return the fields to populate
+     */
+    List<Field> getFields() {
+        return fields;
+    }
+
+    private List<Field> introspectFields(final Class<?> type) {
+        List<Field> result = new ArrayList<>(asList(type.getDeclaredFields()));
+        result.addAll(getInheritedFields(type));
+        if (innerType) {
+            result.removeIf(field -> field.getName().equals("this$0"));
+        }
+        return result;
+    }
+}
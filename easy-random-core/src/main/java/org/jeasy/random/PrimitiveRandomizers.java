@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.PrimitiveRandomizer;
+import org.jeasy.random.api.Randomizer;
+
+/**
+ * Decides if the values of a {@link PrimitiveRandomizer} can be generated with its specialized
+ * method (like {@link PrimitiveRandomizer.OfInt#nextInt()}) instead of {@link Randomizer#getRandomValue()}.
+ *
+ * This is only the case when {@code getRandomValue()} is not overridden below the class that
+ * implements the specialized method. For instance, a subclass of a built-in randomizer that only
+ * overrides {@code getRandomValue()} is always called through {@code getRandomValue()}.
+ * The decision is made once per randomizer class.
+ *
+ * @author agent (agent@local)
+ */
+final class PrimitiveRandomizers {
+
+    private static final ClassValue<Boolean> unboxable = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isSpecializedMethodConsistent(type, PrimitiveRandomizer.OfInt.class, "nextInt")
+                    && isSpecializedMethodConsistent(type, PrimitiveRandomizer.OfLong.class, "nextLong")
+                    && isSpecializedMethodConsistent(type, PrimitiveRandomizer.OfDouble.class, "nextDouble")
+                    && isSpecializedMethodConsistent(type, PrimitiveRandomizer.OfChar.class, "nextChar");
+        }
+    };
+
+    private PrimitiveRandomizers() {
+    }
+
+    /**
+     * Check if the values of the given randomizer can be generated with its specialized method.
+     *
+     * @param randomizer to check, can be null
+     * @return true if the randomizer is a {@link PrimitiveRandomizer} whose specialized method
+     * generates the same values as {@link Randomizer#getRandomValue()}
+     */
+    static boolean canBeUnboxed(final Randomizer<?> randomizer) {
+        return randomizer instanceof PrimitiveRandomizer && unboxable.get(randomizer.getClass());
+    }
+
+    private static boolean isSpecializedMethodConsistent(final Class<?> type, final Class<?> specialization, final String specializedMethod) {
+        if (!specialization.isAssignableFrom(type)) {
+            return true;
+        }
+        Class<?> valueMethodDeclarer = getClosestDeclarer(type, "getRandomValue");
+        if (valueMethodDeclarer == null) {
+            // the default method of the specialization boxes the value of the specialized method
+            return true;
+        }
+        Class<?> specializedMethodDeclarer = getClosestDeclarer(type, specializedMethod);
+        return specializedMethodDeclarer != null && valueMethodDeclarer.isAssignableFrom(specializedMethodDeclarer);
+    }
+
+    private static Class<?> getClosestDeclarer(final Class<?> type, final String methodName) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod(methodName);
+                return current;
+            } catch (NoSuchMethodException e) {
+                // not declared in this class, look in the super class
+            }
+        }
+        return null;
+    }
+}
@@ -24,92 +24,245 @@
 package org.jeasy.random;
 
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.ConcreteSubTypes;
 
 import java.lang.reflect.Field;
 import java.util.*;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * Context object for a single call on {@link EasyRandom#nextObject(Class)}.
  * It contains a map acting as a cache of populated beans to avoid infinite recursion.
  *
+ * The path of the field being populated is kept in an array of frames that are reused
+ * from one field to another. The dotted representation of this path is only built when
+ * requested, and is then cached for the current depth until a new field is pushed at this depth.
+ *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
 class RandomizationContext implements RandomizerContext {
 
+    private static final int INITIAL_STACK_CAPACITY = 8;
+
     private final EasyRandomParameters parameters;
 
     private final Map<Class<?>, List<Object>> populatedBeans;
 
-    private final Stack<RandomizationContextStackItem> stack;
+    private final Random random;
+
+    private final ConcreteSubTypes concreteSubTypes;
+
+    private RandomizationContextStackItem[] stack;
+
+    private int depth;
 
-    private final Class<?> type;
+    // dotted path of the fields at each depth (and its lower case version), null when not built yet.
+    // arrays are only allocated when a path is requested
+    private String[] fieldPaths;
+    private String[] lowerCaseFieldPaths;
+
+    private Class<?> type;
 
     private Object rootObject;
 
+    // types of the beans being created through their constructor, allocated on first use
+    private Set<Class<?>> typesUnderConstruction;
+
     RandomizationContext(final Class<?> type, final EasyRandomParameters parameters) {
+        this(type, parameters, new Random(parameters.getSeed()));
+    }
+
+    /**
+     * Create a new {@link RandomizationContext}.
+     *
+     * @param type       the type of the object to generate
+     * @param parameters the randomization parameters
+     * @param random     the random generator used for choices made during the randomization
+     *                   (like picking a bean from the object pool of a type)
+     */
+    RandomizationContext(final Class<?> type, final EasyRandomParameters parameters, final Random random) {
+        this(type, parameters, random, new ConcreteSubTypes(parameters.getClasspathScanPackages(), parameters.isScanSystemModulesForConcreteTypes()));
+    }
+
+    /**
+     * Create a new {@link RandomizationContext}.
+     *
+     * @param type             the type of the object to generate
+     * @param parameters       the randomization parameters
+     * @param random           the random generator used for choices made during the randomization
+     * @param concreteSubTypes the concrete subtypes in the classpath scanning scope of the parameters
+     */
+    RandomizationContext(final Class<?> type, final EasyRandomParameters parameters, final Random random,
+                         final ConcreteSubTypes concreteSubTypes) {
         this.type = type;
+        this.random = random;
+        this.concreteSubTypes = concreteSubTypes;
         populatedBeans = new IdentityHashMap<>();
-        stack = new Stack<>();
+        stack = new RandomizationContextStackItem[INITIAL_STACK_CAPACITY];
         this.parameters = parameters;
     }
 
+    /**
+     * Reset this context so that it can be reused to generate a new object of the given type.
+     * Internal buffers are kept.
+     *
+     * @param type the type of the next object to generate
+     */
+    void reset(final Class<?> type) {
+        this.type = type;
+        rootObject = null;
+        while (depth > 0) {
+            popStackItem();
+        }
+        // keep the object pools, they will be refilled
+        for (List<Object> objects : populatedBeans.values()) {
+            objects.clear();
+        }
+    }
+
     void addPopulatedBean(final Class<?> type, Object object) {
         int objectPoolSize = parameters.getObjectPoolSize();
         List<Object> objects = populatedBeans.get(type);
         if (objects == null) {
             objects = new ArrayList<>(objectPoolSize);
+            populatedBeans.put(type, objects);
         }
         if (objects.size() < objectPoolSize) {
             objects.add(object);
         }
-        populatedBeans.put(type, objects);
+    }
+
+    /**
+     * Mark the given type as being created through its constructor.
+     *
+     * @param type the type of the bean to create
+     * @return false if a bean of this type is already being created in the current object graph
+     */
+    boolean startConstruction(final Class<?> type) {
+        if (typesUnderConstruction == null) {
+            typesUnderConstruction = new HashSet<>();
+        }
+        return typesUnderConstruction.add(type);
+    }
+
+    void endConstruction(final Class<?> type) {
+        typesUnderConstruction.remove(type);
     }
 
     Object getPopulatedBean(final Class<?> type) {
-        int actualPoolSize = populatedBeans.get(type).size();
-        int randomIndex = actualPoolSize > 1 ? nextInt(0, actualPoolSize) : 0;
-        return populatedBeans.get(type).get(randomIndex);
+        List<Object> objects = populatedBeans.get(type);
+        int actualPoolSize = objects.size();
+        int randomIndex = actualPoolSize > 1 ? random.nextInt(actualPoolSize) : 0;
+        return objects.get(randomIndex);
     }
 
     boolean hasAlreadyRandomizedType(final Class<?> type) {
-        return populatedBeans.containsKey(type) && populatedBeans.get(type).size() == parameters.getObjectPoolSize();
+        List<Object> objects = populatedBeans.get(type);
+        return objects != null && objects.size() == parameters.getObjectPoolSize();
     }
 
     void pushStackItem(final RandomizationContextStackItem field) {
-        stack.push(field);
+        ensureCapacity();
+        stack[depth] = field;
+        invalidateFieldPaths();
+        depth++;
+    }
+
+    /**
+     * Push a field on the stack, reusing the frame previously pushed at the same depth if any.
+     *
+     * @param object the object holding the field
+     * @param field  the field being populated
+     */
+    void pushStackItem(final Object object, final Field field) {
+        ensureCapacity();
+        RandomizationContextStackItem item = stack[depth];
+        if (item == null) {
+            stack[depth] = new RandomizationContextStackItem(object, field);
+        } else {
+            item.setObject(object);
+            item.setField(field);
+        }
+        invalidateFieldPaths();
+        depth++;
     }
 
     void popStackItem() {
-        stack.pop();
+        if (depth == 0) {
+            throw new EmptyStackException();
+        }
+        // do not retain populated objects
+        stack[--depth].setObject(null);
     }
 
     String getFieldFullName(final Field field) {
-        List<String> pathToField = getStackedFieldNames();
-        pathToField.add(field.getName());
-        return String.join(".", toLowerCase(pathToField));
+        String fieldName = field.getName().toLowerCase();
+        return depth == 0 ? fieldName : getLowerCaseFieldPath(depth - 1) + "." + fieldName;
     }
 
     boolean hasExceededRandomizationDepth() {
-        int currentRandomizationDepth = stack.size();
-        return currentRandomizationDepth > parameters.getRandomizationDepth();
+        return depth > parameters.getRandomizationDepth();
+    }
+
+    private String getFieldPath(final int index) {
+        if (fieldPaths == null) {
+            fieldPaths = new String[stack.length];
+        }
+        String path = fieldPaths[index];
+        if (path == null) {
+            String fieldName = stack[index].getField().getName();
+            path = index == 0 ? fieldName : getFieldPath(index - 1) + "." + fieldName;
+            fieldPaths[index] = path;
+        }
+        return path;
+    }
+
+    private String getLowerCaseFieldPath(final int index) {
+        if (lowerCaseFieldPaths == null) {
+            lowerCaseFieldPaths = new String[stack.length];
+        }
+        String path = lowerCaseFieldPaths[index];
+        if (path == null) {
+            String fieldName = stack[index].getField().getName().toLowerCase();
+            path = index == 0 ? fieldName : getLowerCaseFieldPath(index - 1) + "." + fieldName;
+            lowerCaseFieldPaths[index] = path;
+        }
+        return path;
     }
 
-    private List<String> getStackedFieldNames() {
-        return stack.stream().map(i -> i.getField().getName()).collect(toList());
+    private void invalidateFieldPaths() {
+        if (fieldPaths != null) {
+            fieldPaths[depth] = null;
+        }
+        if (lowerCaseFieldPaths != null) {
+            lowerCaseFieldPaths[depth] = null;
+        }
+    }
+
+    private void ensureCapacity() {
+        if (depth == stack.length) {
+            int capacity = stack.length * 2;
+            stack = Arrays.copyOf(stack, capacity);
+            if (fieldPaths != null) {
+                fieldPaths = Arrays.copyOf(fieldPaths, capacity);
+            }
+            if (lowerCaseFieldPaths != null) {
+                lowerCaseFieldPaths = Arrays.copyOf(lowerCaseFieldPaths, capacity);
+            }
+        }
     }
 
-    private List<String> toLowerCase(final List<String> strings) {
-        return strings.stream().map(String::toLowerCase).collect(toList());
+    Random getRandom() {
+        return random;
     }
 
-    private int nextInt(int startInclusive, int endExclusive) {
-        return startInclusive + new Random().nextInt(endExclusive - startInclusive);
+    ConcreteSubTypes getConcreteSubTypes() {
+        return concreteSubTypes;
     }
 
     void setRandomizedObject(Object randomizedObject) {
-        if (this.rootObject == null) {
+        // beans created while a bean is being constructed are (indirect) arguments of that bean,
+        // they should not be taken for the root object which does not exist yet
+        if (this.rootObject == null && (typesUnderConstruction == null || typesUnderConstruction.isEmpty())) {
             this.rootObject = randomizedObject;
         }
     }
@@ -121,22 +274,22 @@ class RandomizationContext implements RandomizerContext {
 
     @Override
     public Object getCurrentObject() {
-        if (stack.empty()) {
+        if (depth == 0) {
             return rootObject;
         }
         else {
-            return stack.lastElement().getObject();
+            return stack[depth - 1].getObject();
         }
     }
 
     @Override
     public String getCurrentField() {
-        return String.join(".", getStackedFieldNames());
+        return depth == 0 ? "" : getFieldPath(depth - 1);
     }
 
     @Override
     public int getCurrentRandomizationDepth() {
-        return stack.size();
+        return depth;
     }
 
     @Override
@@ -30,40 +30,64 @@ import org.jeasy.random.api.RandomizerRegistry;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Central class to get registered randomizers by Field or by Type.
  *
+ * Randomizers are resolved once per field and per type, and then served from a cache
+ * (including the absence of randomizer). Registries are expected to always return the
+ * same randomizer for a given field or type once they have been set on this provider.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 class RegistriesRandomizerProvider implements RandomizerProvider {
 
+    private static final Randomizer<?> NO_RANDOMIZER = () -> null;
+
     private final List<RandomizerRegistry> registries = new ArrayList<>();
 
     private final Comparator<Object> priorityComparator = new PriorityComparator();
 
+    private final Map<Field, Randomizer<?>> randomizersByField = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Randomizer<?>> randomizersByType = new ConcurrentHashMap<>();
+
     @Override
     public Randomizer<?> getRandomizerByField(Field field, RandomizerContext context) {
-        return getRandomizer(new ByFieldProvider(field));
+        return orNull(randomizersByField.computeIfAbsent(field, f -> getRandomizer(new ByFieldProvider(f))));
     }
 
     @Override
     public <T> Randomizer<T> getRandomizerByType(Class<T> type, RandomizerContext context) {
-        return (Randomizer<T>) getRandomizer(new ByTypeProvider(type));
+        return (Randomizer<T>) orNull(randomizersByType.computeIfAbsent(type, t -> getRandomizer(new ByTypeProvider(t))));
     }
 
     @Override
     public void setRandomizerRegistries(Set<RandomizerRegistry> randomizerRegistries) {
         this.registries.addAll(randomizerRegistries);
         this.registries.sort(priorityComparator);
+        randomizersByField.clear();
+        randomizersByType.clear();
     }
 
+    /*
+     * Equivalent to sorting the randomizers returned by the registries (in registry order)
+     * by priority and taking the first one, without the intermediate stream and sort.
+     */
     private Randomizer<?> getRandomizer(final Provider provider) {
-        return registries.stream()
-                .map(provider::getRandomizer)
-                .filter(Objects::nonNull)
-                .sorted(priorityComparator)
-                .findFirst().orElse(null);
+        Randomizer<?> result = null;
+        for (RandomizerRegistry registry : registries) {
+            Randomizer<?> randomizer = provider.getRandomizer(registry);
+            if (randomizer != null && (result == null || priorityComparator.compare(randomizer, result) < 0)) {
+                result = randomizer;
+            }
+        }
+        return result == null ? NO_RANDOMIZER : result;
+    }
+
+    private static Randomizer<?> orNull(final Randomizer<?> randomizer) {
+        return randomizer == NO_RANDOMIZER ? null : randomizer;
     }
 
     @FunctionalInterface
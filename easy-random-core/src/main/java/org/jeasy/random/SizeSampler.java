@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+/**
+ * Sampler of array, collection and map sizes.
+ *
+ * A size is the first value of an {@link org.jeasy.random.randomizers.range.IntegerRangeRandomizer}
+ * created with the size range and a seed. This value only depends on the first double
+ * generated by a {@link java.util.Random} with that seed, so it is computed here
+ * without creating a randomizer (and its {@code Random}) for each sampled size.
+ *
+ * @author agent (agent@local)
+ */
+final class SizeSampler {
+
+    // constants of the linear congruential generator of java.util.Random
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private SizeSampler() {
+    }
+
+    /**
+     * Sample a size in the given range.
+     *
+     * @param range of sizes
+     * @param seed  of the sample
+     * @return the same size as {@code new IntegerRangeRandomizer(range.getMin(), range.getMax(), seed).getRandomValue()}
+     */
+    static int sample(final EasyRandomParameters.Range<Integer> range, final long seed) {
+        int min = range.getMin() != null ? range.getMin() : Integer.MIN_VALUE;
+        int max = range.getMax() != null ? range.getMax() : Integer.MAX_VALUE;
+        if (min > max) {
+            throw new IllegalArgumentException("max must be greater than min");
+        }
+        double value = min + (firstDoubleOf(seed) * ((double) max - min));
+        if (value < min) {
+            return min;
+        } else if (value > max) {
+            return max;
+        }
+        return (int) value;
+    }
+
+    /*
+     * Same value as new Random(seed).nextDouble().
+     */
+    private static double firstDoubleOf(final long seed) {
+        long state = (seed ^ MULTIPLIER) & MASK;
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        long high = (int) (state >>> (48 - 26));
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        long low = (int) (state >>> (48 - 27));
+        return ((high << 27) + low) * DOUBLE_UNIT;
+    }
+}
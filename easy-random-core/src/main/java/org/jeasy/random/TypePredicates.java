@@ -23,8 +23,12 @@
  */
 package org.jeasy.random;
 
+import org.jeasy.random.util.TypePredicate;
+
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.function.Predicate;
 
 /**
@@ -34,6 +38,10 @@ import java.util.function.Predicate;
  *     Predicate&lt;Class&lt;?&gt;&gt; predicate = inPackage("java.util").or(inPackage("com.sun"));
  *</pre>
  *
+ * Predicates created by this class expose the type, name and annotations they require
+ * (see {@link TypePredicate}), so that registries can look them up without testing
+ * all of them against each type.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 public class TypePredicates {
@@ -45,7 +53,7 @@ public class TypePredicates {
      * @return Predicate to check that a type has a given name.
      */
     public static Predicate<Class<?>> named(final String name) {
-        return clazz -> clazz.getName().equals(name);
+        return TypePredicate.withName(clazz -> clazz.getName().equals(name), name);
     }
 
     /**
@@ -55,7 +63,7 @@ public class TypePredicates {
      * @return Predicate to check that a class has a certain type
      */
     public static Predicate<Class<?>> ofType(Class<?> type) {
-        return clazz -> clazz.equals(type);
+        return TypePredicate.withType(clazz -> clazz.equals(type), type);
     }
 
     /**
@@ -65,7 +73,7 @@ public class TypePredicates {
      * @return Predicate to check that a type is defined in a given package.
      */
     public static Predicate<Class<?>> inPackage(final String packageNamePrefix) {
-        return clazz -> clazz.getPackage().getName().startsWith(packageNamePrefix);
+        return TypePredicate.of(clazz -> clazz.getPackage().getName().startsWith(packageNamePrefix));
     }
 
     /**
@@ -74,15 +82,16 @@ public class TypePredicates {
      * @param annotations present on the type
      * @return Predicate to check that a type is annotated with one of the given annotations.
      */
+    @SafeVarargs
     public static Predicate<Class<?>> isAnnotatedWith(Class<? extends Annotation>... annotations) {
-        return clazz -> {
+        return TypePredicate.withAnnotations(clazz -> {
             for (Class<? extends Annotation> annotation : annotations) {
                 if (clazz.isAnnotationPresent(annotation)) {
                     return true;
                 }
             }
             return false;
-        };
+        }, new LinkedHashSet<>(Arrays.asList(annotations)));
     }
 
     /**
@@ -91,7 +100,7 @@ public class TypePredicates {
      * @return a predicate to check if a type is an interface
      */
     public static Predicate<Class<?>> isInterface() {
-        return Class::isInterface;
+        return TypePredicate.of(Class::isInterface);
     }
 
     /**
@@ -100,7 +109,7 @@ public class TypePredicates {
      * @return a predicate to check if a type is primitive
      */
     public static Predicate<Class<?>> isPrimitive() {
-        return Class::isPrimitive;
+        return TypePredicate.of(Class::isPrimitive);
     }
 
     /**
@@ -119,7 +128,7 @@ public class TypePredicates {
      * @return Predicate to check that a type has a given set of modifiers
      */
     public static Predicate<Class<?>> hasModifiers(final Integer modifiers) {
-        return clazz -> (modifiers & clazz.getModifiers()) == modifiers;
+        return TypePredicate.of(clazz -> (modifiers & clazz.getModifiers()) == modifiers);
     }
 
     /**
@@ -128,7 +137,7 @@ public class TypePredicates {
      * @return a predicate to check if a type is an enumeration
      */
     public static Predicate<Class<?>> isEnum() {
-        return Class::isEnum;
+        return TypePredicate.of(Class::isEnum);
     }
 
     /**
@@ -137,7 +146,7 @@ public class TypePredicates {
      * @return a predicate to check if a type is an array
      */
     public static Predicate<Class<?>> isArray() {
-        return Class::isArray;
+        return TypePredicate.of(Class::isArray);
     }
 
     /**
@@ -148,7 +157,7 @@ public class TypePredicates {
      * @return a predicate to check if a type is is assignable from another type.
      */
     public static Predicate<Class<?>> isAssignableFrom(Class<?> type) {
-        return clazz -> clazz.isAssignableFrom(type);
+        return TypePredicate.of(clazz -> clazz.isAssignableFrom(type));
     }
 
 }
@@ -51,4 +51,18 @@ public interface ExclusionPolicy {
      */
     boolean shouldBeExcluded(final Class<?> type, final RandomizerContext context);
 
+    /**
+     * Indicates whether the decisions of this policy only depend on the field or type
+     * to check and on the randomization parameters, and not on the rest of the
+     * randomization context (current object, path in the object graph, etc).
+     *
+     * Decisions of a context independent policy are computed once per field and type,
+     * and reused for the lifetime of the {@code EasyRandom} instance.
+     *
+     * @return true if the decisions of this policy can be cached, false otherwise
+     */
+    default boolean isContextIndependent() {
+        return false;
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+/**
+ * Base interface of randomizers specialized for primitive types. Their values can be
+ * generated without boxing: Easy Random uses the specialized methods for primitive
+ * fields and arrays, and {@link Randomizer#getRandomValue()} boxes the same value.
+ * When a subclass overrides {@link Randomizer#getRandomValue()} without overriding the
+ * specialized method, Easy Random uses {@link Randomizer#getRandomValue()}.
+ *
+ * @param <T> the wrapper type generated by the randomizer
+ * @author agent (agent@local)
+ */
+public interface PrimitiveRandomizer<T> extends Randomizer<T> {
+
+    /**
+     * A {@link Randomizer} specialized for {@code int} values.
+     */
+    interface OfInt extends PrimitiveRandomizer<Integer> {
+
+        /**
+         * Generate a random {@code int} value.
+         *
+         * @return a random value
+         */
+        int nextInt();
+
+        @Override
+        default Integer getRandomValue() {
+            return nextInt();
+        }
+    }
+
+    /**
+     * A {@link Randomizer} specialized for {@code long} values.
+     */
+    interface OfLong extends PrimitiveRandomizer<Long> {
+
+        /**
+         * Generate a random {@code long} value.
+         *
+         * @return a random value
+         */
+        long nextLong();
+
+        @Override
+        default Long getRandomValue() {
+            return nextLong();
+        }
+    }
+
+    /**
+     * A {@link Randomizer} specialized for {@code double} values.
+     */
+    interface OfDouble extends PrimitiveRandomizer<Double> {
+
+        /**
+         * Generate a random {@code double} value.
+         *
+         * @return a random value
+         */
+        double nextDouble();
+
+        @Override
+        default Double getRandomValue() {
+            return nextDouble();
+        }
+    }
+
+    /**
+     * A {@link Randomizer} specialized for {@code char} values.
+     */
+    interface OfChar extends PrimitiveRandomizer<Character> {
+
+        /**
+         * Generate a random {@code char} value.
+         *
+         * @return a random value
+         */
+        char nextChar();
+
+        @Override
+        default Character getRandomValue() {
+            return nextChar();
+        }
+    }
+}
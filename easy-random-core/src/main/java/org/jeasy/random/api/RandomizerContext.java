@@ -42,6 +42,8 @@ public interface RandomizerContext {
 
     /**
      * Return the root object being randomized (instance of {@link RandomizerContext#getTargetType()}.
+     * When the root object is created through its constructor, it does not exist while the
+     * arguments of its constructor are generated and this method returns null.
      * @return root object being randomized
      */
     Object getRootObject();
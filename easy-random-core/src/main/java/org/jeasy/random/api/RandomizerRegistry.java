@@ -57,4 +57,25 @@ public interface RandomizerRegistry {
      * @return the randomizer registered for the given type.
      */
     Randomizer<?> getRandomizer(final Class<?> type);
+
+    /**
+     * Create a copy of this registry initialized with the given parameters.
+     *
+     * This is used to create an {@link EasyRandom} with another seed from the parameters this
+     * registry has been registered in (for each index of {@link EasyRandom#nextObject(Class, long)},
+     * for each thread of a thread safe {@link EasyRandom} or for each instance of an
+     * {@link org.jeasy.random.EasyRandomFactory}). The copy must keep the state this registry has
+     * been configured with, and generate values from the seed of the given parameters.
+     *
+     * The default implementation returns {@code null}: this registry can not be copied, so the same
+     * instance is shared by all the {@link EasyRandom} created from the parameters. It is not
+     * initialized again, so its randomizers are not seeded with the seed of each of them.
+     *
+     * @param parameters of the {@link EasyRandom} instance being configured
+     * @return a copy of this registry initialized with the given parameters, or {@code null} if this
+     * registry can not be copied
+     */
+    default RandomizerRegistry copy(EasyRandomParameters parameters) {
+        return null;
+    }
 }
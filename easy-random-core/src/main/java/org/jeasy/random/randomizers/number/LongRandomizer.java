@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -30,7 +31,7 @@ import org.jeasy.random.randomizers.AbstractRandomizer;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class LongRandomizer extends AbstractRandomizer<Long> {
+public class LongRandomizer extends AbstractRandomizer<Long> implements PrimitiveRandomizer.OfLong {
 
     /**
      * Create a new {@link LongRandomizer}.
@@ -68,6 +69,11 @@ public class LongRandomizer extends AbstractRandomizer<Long> {
     
     @Override
     public Long getRandomValue() {
+        return nextLong();
+    }
+
+    @Override
+    public long nextLong() {
         return random.nextLong();
     }
 }
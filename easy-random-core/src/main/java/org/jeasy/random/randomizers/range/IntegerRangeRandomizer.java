@@ -23,12 +23,14 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
+
 /**
  * Generate a random {@link Integer} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> {
+public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> implements PrimitiveRandomizer.OfInt {
 
     /**
      * Create a new {@link IntegerRangeRandomizer}.
@@ -83,6 +85,11 @@ public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> {
 
     @Override
     public Integer getRandomValue() {
+        return nextInt();
+    }
+
+    @Override
+    public int nextInt() {
         return (int) nextDouble(min, max);
     }
 
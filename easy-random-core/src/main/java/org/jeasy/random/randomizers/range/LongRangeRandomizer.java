@@ -23,12 +23,14 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
+
 /**
  * Generate a random {@link Long} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> {
+public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> implements PrimitiveRandomizer.OfLong {
 
     /**
      * Create a new {@link LongRangeRandomizer}.
@@ -83,6 +85,11 @@ public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> {
 
     @Override
     public Long getRandomValue() {
+        return nextLong();
+    }
+
+    @Override
+    public long nextLong() {
         return (long) nextDouble(min, max);
     }
 
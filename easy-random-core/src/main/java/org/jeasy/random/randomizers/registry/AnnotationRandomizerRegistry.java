@@ -31,8 +31,8 @@ import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link RandomizerRegistry} for fields annotated with {@link org.jeasy.random.annotation.Randomizer}.
@@ -42,7 +42,7 @@ import java.util.Map;
 @Priority(-1)
 public class AnnotationRandomizerRegistry implements RandomizerRegistry {
 
-    private final Map<Field, Randomizer<?>> customFieldRandomizersRegistry = new HashMap<>();
+    private final Map<Field, Randomizer<?>> customFieldRandomizersRegistry = new ConcurrentHashMap<>();
 
     @Override
     public void init(EasyRandomParameters parameters) {
@@ -58,15 +58,12 @@ public class AnnotationRandomizerRegistry implements RandomizerRegistry {
     @Override
     public Randomizer<?> getRandomizer(Field field) {
         if (field.isAnnotationPresent(org.jeasy.random.annotation.Randomizer.class)) {
-            Randomizer<?> randomizer = customFieldRandomizersRegistry.get(field);
-            if (randomizer == null) {
-                org.jeasy.random.annotation.Randomizer annotation = field.getAnnotation(org.jeasy.random.annotation.Randomizer.class);
+            return customFieldRandomizersRegistry.computeIfAbsent(field, f -> {
+                org.jeasy.random.annotation.Randomizer annotation = f.getAnnotation(org.jeasy.random.annotation.Randomizer.class);
                 Class<?> type = annotation.value();
                 RandomizerArgument[] arguments = annotation.args();
-                randomizer = ReflectionUtils.newInstance(type, arguments);
-                customFieldRandomizersRegistry.put(field, randomizer);
-            }
-            return randomizer;
+                return ReflectionUtils.newInstance(type, arguments);
+            });
         }
         return null;
     }
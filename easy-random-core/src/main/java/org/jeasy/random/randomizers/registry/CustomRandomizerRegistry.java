@@ -27,37 +27,75 @@ import org.jeasy.random.annotation.Priority;
 import org.jeasy.random.EasyRandomParameters;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.util.FieldPredicateIndex;
 import org.jeasy.random.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 
 /**
  * Registry of user defined randomizers.
  *
+ * Randomizers can be registered as is, in which case they are shared by all copies of this registry,
+ * or with a factory creating them from a seed, in which case they are created again with the seed
+ * of the parameters each time this registry is initialized or copied.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 @Priority(-1)
 public class CustomRandomizerRegistry implements RandomizerRegistry {
 
-    private final Map<Predicate<Field>, Randomizer<?>> customFieldRandomizersRegistry = new HashMap<>();
-    private final Map<Class<?>, Randomizer<?>> customTypeRandomizersRegistry = new HashMap<>();
+    // field randomizers are looked up in registration order: the first matching predicate wins
+    private final FieldPredicateIndex<Randomizer<?>> customFieldRandomizersRegistry = new FieldPredicateIndex<>();
+    private final Map<Class<?>, Randomizer<?>> customTypeRandomizersRegistry = new ConcurrentHashMap<>();
+    private final Map<Predicate<Field>, LongFunction<? extends Randomizer<?>>> customFieldRandomizerFactories = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongFunction<? extends Randomizer<?>>> customTypeRandomizerFactories = new ConcurrentHashMap<>();
+    private volatile long seed = EasyRandomParameters.DEFAULT_SEED;
 
     @Override
     public void init(EasyRandomParameters parameters) {
-        // no op
+        seed = parameters.getSeed();
+        customFieldRandomizerFactories.forEach((predicate, factory) -> customFieldRandomizersRegistry.put(predicate, factory.apply(seed)));
+        customTypeRandomizerFactories.forEach((type, factory) -> customTypeRandomizersRegistry.put(type, factory.apply(seed)));
     }
 
+    /**
+     * Create a copy of this registry initialized with the given parameters. Randomizers registered
+     * with a factory are created again with the seed of the parameters, other randomizers are shared.
+     *
+     * @param parameters of the copy
+     * @return a copy of this registry
+     */
     @Override
-    public Randomizer<?> getRandomizer(Field field) {
-        for (Predicate<Field> fieldPredicate : customFieldRandomizersRegistry.keySet()) {
-            if (fieldPredicate.test(field)) {
-                return customFieldRandomizersRegistry.get(fieldPredicate);
+    public CustomRandomizerRegistry copy(EasyRandomParameters parameters) {
+        CustomRandomizerRegistry copy = new CustomRandomizerRegistry();
+        copy.seed = parameters.getSeed();
+        for (Predicate<Field> predicate : customFieldRandomizersRegistry.predicates()) {
+            LongFunction<? extends Randomizer<?>> factory = customFieldRandomizerFactories.get(predicate);
+            if (factory != null) {
+                copy.registerRandomizerFactory(predicate, factory);
+            } else {
+                copy.registerRandomizer(predicate, customFieldRandomizersRegistry.get(predicate));
             }
         }
-        return getRandomizer(field.getType());
+        customTypeRandomizersRegistry.forEach((type, randomizer) -> {
+            LongFunction<? extends Randomizer<?>> factory = customTypeRandomizerFactories.get(type);
+            if (factory != null) {
+                copy.registerRandomizerFactory(type, factory);
+            } else {
+                copy.registerRandomizer(type, randomizer);
+            }
+        });
+        return copy;
+    }
+
+    @Override
+    public Randomizer<?> getRandomizer(Field field) {
+        Randomizer<?> randomizer = customFieldRandomizersRegistry.getFirstMatch(field);
+        return randomizer != null ? randomizer : getRandomizer(field.getType());
     }
 
     @Override
@@ -71,12 +109,58 @@ public class CustomRandomizerRegistry implements RandomizerRegistry {
         return randomizer;
     }
 
+    /**
+     * Check if randomizers have been registered without a factory. They can not be seeded
+     * and are shared by all copies of this registry.
+     *
+     * @return true if this registry has randomizers registered without a factory
+     */
+    public boolean hasSharedRandomizers() {
+        return customTypeRandomizersRegistry.size() > customTypeRandomizerFactories.size()
+                || customFieldRandomizersRegistry.size() > customFieldRandomizerFactories.size();
+    }
+
+    /**
+     * Check if randomizers have been registered with a factory.
+     *
+     * @return true if this registry has randomizers registered with a factory
+     */
+    public boolean hasSeededRandomizers() {
+        return !customTypeRandomizerFactories.isEmpty() || !customFieldRandomizerFactories.isEmpty();
+    }
+
     public <T, R> void registerRandomizer(final Class<T> type, final Randomizer<R> randomizer) {
+        customTypeRandomizerFactories.remove(type);
         customTypeRandomizersRegistry.put(type, randomizer);
     }
 
     public void registerRandomizer(final Predicate<Field> predicate, Randomizer<?> randomizer) {
+        customFieldRandomizerFactories.remove(predicate);
         customFieldRandomizersRegistry.put(predicate, randomizer);
     }
 
+    /**
+     * Register a factory of randomizers for the given type. The randomizer is created with the seed
+     * this registry has been initialized with, and created again with the seed of each copy.
+     *
+     * @param type              to randomize
+     * @param randomizerFactory creating the randomizer from a seed
+     */
+    public void registerRandomizerFactory(final Class<?> type, final LongFunction<? extends Randomizer<?>> randomizerFactory) {
+        customTypeRandomizerFactories.put(type, randomizerFactory);
+        customTypeRandomizersRegistry.put(type, randomizerFactory.apply(seed));
+    }
+
+    /**
+     * Register a factory of randomizers for the given field predicate. The randomizer is created with
+     * the seed this registry has been initialized with, and created again with the seed of each copy.
+     *
+     * @param predicate         to identify the field
+     * @param randomizerFactory creating the randomizer from a seed
+     */
+    public void registerRandomizerFactory(final Predicate<Field> predicate, final LongFunction<? extends Randomizer<?>> randomizerFactory) {
+        customFieldRandomizerFactories.put(predicate, randomizerFactory);
+        customFieldRandomizersRegistry.put(predicate, randomizerFactory.apply(seed));
+    }
+
 }
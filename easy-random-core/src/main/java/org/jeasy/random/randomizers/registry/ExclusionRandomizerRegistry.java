@@ -31,10 +31,9 @@ import org.jeasy.random.EasyRandomParameters;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.randomizers.misc.SkipRandomizer;
+import org.jeasy.random.util.IndexedPredicateSet;
 
 import java.lang.reflect.Field;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -45,8 +44,11 @@ import java.util.function.Predicate;
 @Priority(0)
 public class ExclusionRandomizerRegistry implements RandomizerRegistry {
 
-    private Set<Predicate<Field>> fieldPredicates = new HashSet<>();
-    private Set<Predicate<Class<?>>> typePredicates = new HashSet<>();
+    // skip randomizers are stateless, they can be shared by all excluded fields and types
+    private static final SkipRandomizer SKIP_RANDOMIZER = new SkipRandomizer();
+
+    private final IndexedPredicateSet<Field> fieldPredicates = IndexedPredicateSet.ofFieldPredicates();
+    private final IndexedPredicateSet<Class<?>> typePredicates = IndexedPredicateSet.ofTypePredicates();
 
     /**
      * {@inheritDoc}
@@ -62,12 +64,7 @@ public class ExclusionRandomizerRegistry implements RandomizerRegistry {
      */
     @Override
     public Randomizer<?> getRandomizer(Field field) {
-        for (Predicate<Field> fieldPredicate : fieldPredicates) {
-            if (fieldPredicate.test(field)) {
-                return new SkipRandomizer();
-            }
-        }
-        return null;
+        return fieldPredicates.anyMatch(field) ? SKIP_RANDOMIZER : null;
     }
 
     /**
@@ -75,12 +72,7 @@ public class ExclusionRandomizerRegistry implements RandomizerRegistry {
      */
     @Override
     public Randomizer<?> getRandomizer(Class<?> clazz) {
-        for (Predicate<Class<?>> typePredicate : typePredicates) {
-            if (typePredicate.test(clazz)) {
-                return new SkipRandomizer();
-            }
-        }
-        return null;
+        return typePredicates.anyMatch(clazz) ? SKIP_RANDOMIZER : null;
     }
 
     /**
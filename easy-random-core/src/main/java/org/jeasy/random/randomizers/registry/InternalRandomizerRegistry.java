@@ -48,9 +48,7 @@ import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -65,47 +63,49 @@ import static java.sql.Date.valueOf;
 @Priority(-4)
 public class InternalRandomizerRegistry implements RandomizerRegistry {
 
-    private final Map<Class<?>, Randomizer<?>> randomizers = new HashMap<>();
+    private final LazyRandomizers randomizers = new LazyRandomizers();
 
     @Override
     public void init(EasyRandomParameters parameters) {
         long seed = parameters.getSeed();
         Charset charset = parameters.getCharset();
-        randomizers.put(String.class, new StringRandomizer(charset, parameters.getStringLengthRange().getMin(), parameters.getStringLengthRange().getMax(), seed));
-        CharacterRandomizer characterRandomizer = new CharacterRandomizer(charset, seed);
-        randomizers.put(Character.class, characterRandomizer);
-        randomizers.put(char.class, characterRandomizer);
-        randomizers.put(Boolean.class, new BooleanRandomizer(seed));
-        randomizers.put(boolean.class, new BooleanRandomizer(seed));
-        randomizers.put(Byte.class, new ByteRandomizer(seed));
-        randomizers.put(byte.class, new ByteRandomizer(seed));
-        randomizers.put(Short.class, new ShortRandomizer(seed));
-        randomizers.put(short.class, new ShortRandomizer(seed));
-        randomizers.put(Integer.class, new IntegerRandomizer(seed));
-        randomizers.put(int.class, new IntegerRandomizer(seed));
-        randomizers.put(Long.class, new LongRandomizer(seed));
-        randomizers.put(long.class, new LongRandomizer(seed));
-        randomizers.put(Double.class, new DoubleRandomizer(seed));
-        randomizers.put(double.class, new DoubleRandomizer(seed));
-        randomizers.put(Float.class, new FloatRandomizer(seed));
-        randomizers.put(float.class, new FloatRandomizer(seed));
-        randomizers.put(BigInteger.class, new BigIntegerRandomizer(seed));
-        randomizers.put(BigDecimal.class, new BigDecimalRandomizer(seed));
-        randomizers.put(AtomicLong.class, new AtomicLongRandomizer(seed));
-        randomizers.put(AtomicInteger.class, new AtomicIntegerRandomizer(seed));
+        int minStringLength = parameters.getStringLengthRange().getMin();
+        int maxStringLength = parameters.getStringLengthRange().getMax();
         Date minDate = valueOf(parameters.getDateRange().getMin());
         Date maxDate = valueOf(parameters.getDateRange().getMax());
-        randomizers.put(Date.class, new DateRangeRandomizer(minDate, maxDate, seed));
-        randomizers.put(java.sql.Date.class, new SqlDateRangeRandomizer(new java.sql.Date(minDate.getTime()), new java.sql.Date(maxDate.getTime()), seed));
-        randomizers.put(java.sql.Time.class, new SqlTimeRandomizer(seed));
-        randomizers.put(java.sql.Timestamp.class, new SqlTimestampRandomizer(seed));
-        randomizers.put(Calendar.class, new CalendarRandomizer(seed));
-        randomizers.put(URL.class, new UrlRandomizer(seed));
-        randomizers.put(URI.class, new UriRandomizer(seed));
-        randomizers.put(Locale.class, new LocaleRandomizer(seed));
-        randomizers.put(UUID.class, new UUIDRandomizer(seed));
+        randomizers.clear();
+        randomizers.register(String.class, () -> new StringRandomizer(charset, minStringLength, maxStringLength, seed));
+        randomizers.register(Character.class, () -> new CharacterRandomizer(charset, seed));
+        randomizers.alias(char.class, Character.class);
+        randomizers.register(Boolean.class, () -> new BooleanRandomizer(seed));
+        randomizers.register(boolean.class, () -> new BooleanRandomizer(seed));
+        randomizers.register(Byte.class, () -> new ByteRandomizer(seed));
+        randomizers.register(byte.class, () -> new ByteRandomizer(seed));
+        randomizers.register(Short.class, () -> new ShortRandomizer(seed));
+        randomizers.register(short.class, () -> new ShortRandomizer(seed));
+        randomizers.register(Integer.class, () -> new IntegerRandomizer(seed));
+        randomizers.register(int.class, () -> new IntegerRandomizer(seed));
+        randomizers.register(Long.class, () -> new LongRandomizer(seed));
+        randomizers.register(long.class, () -> new LongRandomizer(seed));
+        randomizers.register(Double.class, () -> new DoubleRandomizer(seed));
+        randomizers.register(double.class, () -> new DoubleRandomizer(seed));
+        randomizers.register(Float.class, () -> new FloatRandomizer(seed));
+        randomizers.register(float.class, () -> new FloatRandomizer(seed));
+        randomizers.register(BigInteger.class, () -> new BigIntegerRandomizer(seed));
+        randomizers.register(BigDecimal.class, () -> new BigDecimalRandomizer(seed));
+        randomizers.register(AtomicLong.class, () -> new AtomicLongRandomizer(seed));
+        randomizers.register(AtomicInteger.class, () -> new AtomicIntegerRandomizer(seed));
+        randomizers.register(Date.class, () -> new DateRangeRandomizer(minDate, maxDate, seed));
+        randomizers.register(java.sql.Date.class, () -> new SqlDateRangeRandomizer(new java.sql.Date(minDate.getTime()), new java.sql.Date(maxDate.getTime()), seed));
+        randomizers.register(java.sql.Time.class, () -> new SqlTimeRandomizer(seed));
+        randomizers.register(java.sql.Timestamp.class, () -> new SqlTimestampRandomizer(seed));
+        randomizers.register(Calendar.class, () -> new CalendarRandomizer(seed));
+        randomizers.register(URL.class, () -> new UrlRandomizer(seed));
+        randomizers.register(URI.class, () -> new UriRandomizer(seed));
+        randomizers.register(Locale.class, () -> new LocaleRandomizer(seed));
+        randomizers.register(UUID.class, () -> new UUIDRandomizer(seed));
         // issue #280: skip fields of type Class
-        randomizers.put(Class.class, new SkipRandomizer());
+        randomizers.register(Class.class, SkipRandomizer::new);
     }
 
     @Override
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.registry;
+
+import org.jeasy.random.api.Randomizer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Randomizers of a registry created on first use.
+ *
+ * Registries register a factory per type when they are initialized, which is much cheaper
+ * than creating all randomizers upfront since most of them are never used by a given
+ * {@link org.jeasy.random.EasyRandom} instance. As each randomizer has its own seeded
+ * random generator, the values it generates do not depend on when it is created.
+ *
+ * @author agent (agent@local)
+ */
+class LazyRandomizers {
+
+    private final Map<Class<?>, Supplier<? extends Randomizer<?>>> factories = new HashMap<>();
+
+    private final Map<Class<?>, Randomizer<?>> randomizers = new ConcurrentHashMap<>();
+
+    /**
+     * Remove all factories and randomizers.
+     */
+    void clear() {
+        factories.clear();
+        randomizers.clear();
+    }
+
+    /**
+     * Register the factory of the randomizer of a type.
+     *
+     * @param type    the type generated by the randomizer
+     * @param factory of the randomizer
+     */
+    void register(final Class<?> type, final Supplier<? extends Randomizer<?>> factory) {
+        factories.put(type, factory);
+    }
+
+    /**
+     * Use the same randomizer instance for two types.
+     *
+     * @param type       the type to register
+     * @param targetType the type whose randomizer should be used for {@code type}
+     */
+    void alias(final Class<?> type, final Class<?> targetType) {
+        factories.put(type, () -> get(targetType));
+    }
+
+    /**
+     * Get the randomizer of a type, creating it if needed.
+     *
+     * @param type the type generated by the randomizer
+     * @return the randomizer of the type, or null if no randomizer is registered for this type
+     */
+    Randomizer<?> get(final Class<?> type) {
+        Randomizer<?> randomizer = randomizers.get(type);
+        if (randomizer != null) {
+            return randomizer;
+        }
+        Supplier<? extends Randomizer<?>> factory = factories.get(type);
+        if (factory == null) {
+            return null;
+        }
+        randomizer = factory.get();
+        Randomizer<?> existing = randomizers.putIfAbsent(type, randomizer);
+        return existing != null ? existing : randomizer;
+    }
+}
@@ -41,8 +41,6 @@ import org.jeasy.random.randomizers.time.*;
 import java.lang.reflect.Field;
 import java.time.*;
 import java.util.GregorianCalendar;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.TimeZone;
 
 import static java.time.LocalDateTime.of;
@@ -55,7 +53,7 @@ import static java.time.LocalDateTime.of;
 @Priority(-3)
 public class TimeRandomizerRegistry implements RandomizerRegistry {
 
-    private final Map<Class<?>, Randomizer<?>> randomizers = new HashMap<>();
+    private final LazyRandomizers randomizers = new LazyRandomizers();
 
     @Override
     public void init(EasyRandomParameters parameters) {
@@ -64,34 +62,28 @@ public class TimeRandomizerRegistry implements RandomizerRegistry {
         LocalDate maxDate = parameters.getDateRange().getMax();
         LocalTime minTime = parameters.getTimeRange().getMin();
         LocalTime maxTime = parameters.getTimeRange().getMax();
-        randomizers.put(Duration.class, new DurationRandomizer(seed));
-        randomizers.put(GregorianCalendar.class, new GregorianCalendarRandomizer(seed));
-        randomizers.put(Instant.class, new InstantRangeRandomizer(minDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), maxDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), seed));
-        randomizers.put(LocalDate.class, new LocalDateRangeRandomizer(minDate, maxDate, seed));
-        randomizers.put(LocalDateTime.class, new LocalDateTimeRangeRandomizer(of(minDate, minTime), of(maxDate, maxTime), seed));
-        randomizers.put(LocalTime.class, new LocalTimeRangeRandomizer(minTime, maxTime, seed));
-        randomizers.put(MonthDay.class, new MonthDayRandomizer(seed));
-        randomizers.put(OffsetDateTime.class,
-                new OffsetDateTimeRangeRandomizer(toOffsetDateTime(minDate, minTime), toOffsetDateTime(maxDate, maxTime), seed));
-        randomizers.put(OffsetTime.class, new OffsetTimeRangeRandomizer(minTime.atOffset(OffsetDateTime.now().getOffset()),
-                maxTime.atOffset(OffsetDateTime.now().getOffset()), seed));
-        randomizers.put(Period.class, new PeriodRandomizer(seed));
-        randomizers.put(TimeZone.class, new TimeZoneRandomizer(seed));
-        randomizers.put(YearMonth.class, new YearMonthRangeRandomizer(YearMonth.of(minDate.getYear(), minDate.getMonth()),
+        ZoneId zone = ZoneId.systemDefault();
+        ZoneOffset offset = OffsetDateTime.now().getOffset();
+        randomizers.clear();
+        randomizers.register(Duration.class, () -> new DurationRandomizer(seed));
+        randomizers.register(GregorianCalendar.class, () -> new GregorianCalendarRandomizer(seed));
+        randomizers.register(Instant.class, () -> new InstantRangeRandomizer(minDate.atStartOfDay(zone).toInstant(), maxDate.atStartOfDay(zone).toInstant(), seed));
+        randomizers.register(LocalDate.class, () -> new LocalDateRangeRandomizer(minDate, maxDate, seed));
+        randomizers.register(LocalDateTime.class, () -> new LocalDateTimeRangeRandomizer(of(minDate, minTime), of(maxDate, maxTime), seed));
+        randomizers.register(LocalTime.class, () -> new LocalTimeRangeRandomizer(minTime, maxTime, seed));
+        randomizers.register(MonthDay.class, () -> new MonthDayRandomizer(seed));
+        randomizers.register(OffsetDateTime.class,
+                () -> new OffsetDateTimeRangeRandomizer(of(minDate, minTime).atOffset(offset), of(maxDate, maxTime).atOffset(offset), seed));
+        randomizers.register(OffsetTime.class, () -> new OffsetTimeRangeRandomizer(minTime.atOffset(offset), maxTime.atOffset(offset), seed));
+        randomizers.register(Period.class, () -> new PeriodRandomizer(seed));
+        randomizers.register(TimeZone.class, () -> new TimeZoneRandomizer(seed));
+        randomizers.register(YearMonth.class, () -> new YearMonthRangeRandomizer(YearMonth.of(minDate.getYear(), minDate.getMonth()),
                 YearMonth.of(maxDate.getYear(), maxDate.getMonth()), seed));
-        randomizers.put(Year.class, new YearRangeRandomizer(Year.of(minDate.getYear()), Year.of(maxDate.getYear()), seed));
-        randomizers.put(ZonedDateTime.class,
-                new ZonedDateTimeRangeRandomizer(toZonedDateTime(minDate, minTime), toZonedDateTime(maxDate, maxTime), seed));
-        randomizers.put(ZoneOffset.class, new ZoneOffsetRandomizer(seed));
-        randomizers.put(ZoneId.class, new ZoneIdRandomizer(seed));
-    }
-
-    private static ZonedDateTime toZonedDateTime(LocalDate localDate, LocalTime localTime) {
-        return LocalDateTime.of(localDate, localTime).atZone(ZoneId.systemDefault());
-    }
-
-    private static OffsetDateTime toOffsetDateTime(LocalDate localDate, LocalTime localTime) {
-        return LocalDateTime.of(localDate, localTime).atOffset(OffsetDateTime.now().getOffset());
+        randomizers.register(Year.class, () -> new YearRangeRandomizer(Year.of(minDate.getYear()), Year.of(maxDate.getYear()), seed));
+        randomizers.register(ZonedDateTime.class,
+                () -> new ZonedDateTimeRangeRandomizer(of(minDate, minTime).atZone(zone), of(maxDate, maxTime).atZone(zone), seed));
+        randomizers.register(ZoneOffset.class, () -> new ZoneOffsetRandomizer(seed));
+        randomizers.register(ZoneId.class, () -> new ZoneIdRandomizer(seed));
     }
 
     @Override
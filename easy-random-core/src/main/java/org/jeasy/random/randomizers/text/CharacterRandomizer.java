@@ -23,43 +23,41 @@
  */
 package org.jeasy.random.randomizers.text;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
-import static org.jeasy.random.util.CharacterUtils.collectPrintableCharactersOf;
-import static org.jeasy.random.util.CharacterUtils.filterLetters;
+import static org.jeasy.random.util.CharacterUtils.lettersOf;
 
 /**
- * Generate a random {@link Character}.
+ * Generate a random {@link Character}: a letter of the US-ASCII charset.
+ *
+ * The alphabet is always the one of US-ASCII, whatever the charset given to the
+ * constructors, so that values generated with a given seed stay the same.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class CharacterRandomizer extends AbstractRandomizer<Character> {
-
-    private Charset charset = StandardCharsets.US_ASCII;
+public class CharacterRandomizer extends AbstractRandomizer<Character> implements PrimitiveRandomizer.OfChar {
 
-    private List<Character> characters = collectPrintableCharactersOf(charset);
+    // shared alphabet, must not be modified
+    private static final char[] CHARACTERS = lettersOf(StandardCharsets.US_ASCII);
 
     /**
      * Create a new {@link CharacterRandomizer}.
      */
     public CharacterRandomizer() {
         super();
-        characters = filterLetters(characters);
     }
 
     /**
      * Create a new {@link CharacterRandomizer}.
      *
-     * @param charset to use
+     * @param charset not used, letters are the ones of US-ASCII
      */
     public CharacterRandomizer(final Charset charset) {
         super();
-        this.charset = charset;
-        characters = filterLetters(characters);
     }
 
     /**
@@ -69,19 +67,16 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
      */
     public CharacterRandomizer(final long seed) {
         super(seed);
-        characters = filterLetters(characters);
     }
 
     /**
      * Create a new {@link CharacterRandomizer}.
      *
-     * @param charset to use
+     * @param charset not used, letters are the ones of US-ASCII
      * @param seed    initial seed
      */
     public CharacterRandomizer(final Charset charset, final long seed) {
         super(seed);
-        this.charset = charset;
-        characters = filterLetters(characters);
     }
 
     /**
@@ -96,7 +91,7 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
     /**
      * Create a new {@link CharacterRandomizer}.
      *
-     * @param charset to use
+     * @param charset not used, letters are the ones of US-ASCII
      * @return a new {@link CharacterRandomizer}.
      */
     public static CharacterRandomizer aNewCharacterRandomizer(final Charset charset) {
@@ -116,7 +111,7 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
     /**
      * Create a new {@link CharacterRandomizer}.
      *
-     * @param charset to use
+     * @param charset not used, letters are the ones of US-ASCII
      * @param seed    initial seed
      * @return a new {@link CharacterRandomizer}.
      */
@@ -126,6 +121,11 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
 
     @Override
     public Character getRandomValue() {
-        return characters.get(random.nextInt(characters.size()));
+        return nextChar();
+    }
+
+    @Override
+    public char nextChar() {
+        return CHARACTERS[random.nextInt(CHARACTERS.length)];
     }
 }
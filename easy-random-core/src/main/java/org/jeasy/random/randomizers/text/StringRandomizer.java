@@ -255,7 +255,7 @@ public class StringRandomizer extends AbstractRandomizer<String> {
         int length = (int) nextDouble(minLength, maxLength);
         char[] chars = new char[length];
         for (int i = 0; i < length; i++) {
-            chars[i] = characterRandomizer.getRandomValue();
+            chars[i] = characterRandomizer.nextChar();
         }
         return new String(chars);
     }
@@ -25,12 +25,17 @@ package org.jeasy.random.util;
 
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.stream.Collectors.toList;
 
 /**
  * Character utility methods.
+ *
+ * Printable characters and letters of a charset are computed once per charset
+ * and shared as {@code char} arrays.
  * 
  * <strong>This class is intended for internal use only.</strong>
  *
@@ -38,6 +43,10 @@ import static java.util.stream.Collectors.toList;
  */
 public final class CharacterUtils {
 
+    private static final ConcurrentHashMap<Charset, char[]> printableCharacters = new ConcurrentHashMap<>();
+
+    private static final ConcurrentHashMap<Charset, char[]> letters = new ConcurrentHashMap<>();
+
     private CharacterUtils() {
     }
 
@@ -49,7 +58,48 @@ public final class CharacterUtils {
      * @return list of printable characters
      */
     public static List<Character> collectPrintableCharactersOf(Charset charset) {
-        List<Character> chars = new ArrayList<>();
+        char[] characters = printableCharactersOf(charset);
+        List<Character> chars = new ArrayList<>(characters.length);
+        for (char character : characters) {
+            chars.add(character);
+        }
+        return chars;
+    }
+
+    /**
+     * Returns the printable characters of the given charset. The returned array is
+     * shared and must not be modified.
+     *
+     * @param charset Charset to use
+     * @return printable characters, in ascending order
+     */
+    public static char[] printableCharactersOf(Charset charset) {
+        return printableCharacters.computeIfAbsent(charset, CharacterUtils::computePrintableCharactersOf);
+    }
+
+    /**
+     * Returns the printable letters of the given charset. The returned array is
+     * shared and must not be modified.
+     *
+     * @param charset Charset to use
+     * @return printable letters, in ascending order
+     */
+    public static char[] lettersOf(Charset charset) {
+        return letters.computeIfAbsent(charset, CharacterUtils::computeLettersOf);
+    }
+
+    /**
+     * Keep only letters from a list of characters.
+     * @param characters to filter
+     * @return only letters
+     */
+    public static List<Character> filterLetters(List<Character> characters) {
+        return characters.stream().filter(Character::isLetter).collect(toList());
+    }
+
+    private static char[] computePrintableCharactersOf(Charset charset) {
+        char[] chars = new char[Character.MAX_VALUE];
+        int count = 0;
         for (int i = Character.MIN_VALUE; i < Character.MAX_VALUE; i++) {
             char character = (char) i;
             if (isPrintable(character)) {
@@ -57,20 +107,23 @@ public final class CharacterUtils {
                 byte[] encoded = characterAsString.getBytes(charset);
                 String decoded = new String(encoded, charset);
                 if (characterAsString.equals(decoded)) {
-                    chars.add(character);
+                    chars[count++] = character;
                 }
             }
         }
-        return chars;
+        return Arrays.copyOf(chars, count);
     }
 
-    /**
-     * Keep only letters from a list of characters.
-     * @param characters to filter
-     * @return only letters
-     */
-    public static List<Character> filterLetters(List<Character> characters) {
-        return characters.stream().filter(Character::isLetter).collect(toList());
+    private static char[] computeLettersOf(Charset charset) {
+        char[] characters = printableCharactersOf(charset);
+        char[] chars = new char[characters.length];
+        int count = 0;
+        for (char character : characters) {
+            if (Character.isLetter(character)) {
+                chars[count++] = character;
+            }
+        }
+        return Arrays.copyOf(chars, count);
     }
 
     private static boolean isPrintable(char character) {
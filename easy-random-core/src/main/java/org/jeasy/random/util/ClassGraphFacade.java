@@ -23,39 +23,178 @@
  */
 package org.jeasy.random.util;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
 
 /**
  * Facade for {@link io.github.classgraph.ClassGraph}. It is a separate class from {@link ReflectionUtils},
  * so that the classpath scanning - which can take a few seconds - is only done when necessary.
  *
+ * The classpath of a class loader is scanned once per scope (package names and inclusion of system
+ * modules), the first time concrete subtypes are searched in this scope. The scan result is distilled
+ * into an index of the names of public concrete subtypes of each type, and then released. Indexes
+ * only hold names and are weakly bound to the class loader (through its {@link IndexedSubTypes}),
+ * so they do not prevent class loaders from being garbage collected.
+ * Classpath elements having a build time index (see {@link IndexedSubTypes}) are not scanned,
+ * their indexed subtypes are merged with the ones of the scan.
+ *
  * @author Pascal Schumacher (https://github.com/PascalSchumacher)
  */
 abstract class ClassGraphFacade {
 
-    private static final ConcurrentHashMap<Class<?>, List<Class<?>>> typeToConcreteSubTypes = new ConcurrentHashMap<>();
-    private static final ScanResult scanResult = new ClassGraph().enableSystemJarsAndModules().enableClassInfo().scan();
+    // guarded by itself, indexed subtypes are weakly referenced (they are held by class loaders)
+    private static final Map<IndexedSubTypes, Map<Scope, SubTypeIndex>> indexes = new WeakHashMap<>();
 
     /**
-     * Searches the classpath for all public concrete subtypes of the given interface or abstract class.
+     * Get the index of the public concrete subtypes in the given packages of the classpath of the class
+     * loader of the given indexed subtypes. The classpath is scanned the first time the index of this
+     * scope is requested. Subtypes are loaded each time they are looked up, callers should cache them.
      *
-     * @param type to search concrete subtypes of
-     * @return a list of all concrete subtypes found
+     * @param packageNames      names of the packages to scan (with their sub-packages), all packages if empty
+     * @param scanSystemModules whether JDK modules (or jars) should be scanned as well
+     * @param indexedSubTypes   subtypes of the classpath elements having a build time index
+     * @return the public concrete subtypes of each type in the scope
      */
-    public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type) {
-        return typeToConcreteSubTypes.computeIfAbsent(type, ClassGraphFacade::searchForPublicConcreteSubTypesOf);
+    static Function<Class<?>, List<Class<?>>> getPublicConcreteSubTypes(final Collection<String> packageNames, final boolean scanSystemModules,
+                                                                         final IndexedSubTypes indexedSubTypes) {
+        Scope scope = new Scope(packageNames, scanSystemModules);
+        Map<Scope, SubTypeIndex> scopeIndexes;
+        synchronized (indexes) {
+            scopeIndexes = indexes.computeIfAbsent(indexedSubTypes, i -> new ConcurrentHashMap<>());
+        }
+        SubTypeIndex index = scopeIndexes.computeIfAbsent(scope, s -> scan(s, indexedSubTypes));
+        return type -> index.loadPublicConcreteSubTypesOf(type, indexedSubTypes.getClassLoader());
+    }
+
+    private static SubTypeIndex scan(final Scope scope, final IndexedSubTypes indexedSubTypes) {
+        ClassGraph classGraph = new ClassGraph()
+                .enableClassInfo()
+                // supertypes outside of the scanned packages are needed to index their subtypes
+                .enableExternalClasses();
+        if (scope.scanSystemModules) {
+            classGraph.enableSystemJarsAndModules();
+        }
+        if (!scope.packageNames.isEmpty()) {
+            classGraph.whitelistPackages(scope.packageNames.toArray(new String[0]));
+        }
+        classGraph.filterClasspathElements(classpathElement -> !indexedSubTypes.isIndexed(classpathElement));
+        try (ScanResult scanResult = classGraph.scan()) {
+            return SubTypeIndex.of(scanResult, indexedSubTypes, scope.packageNames);
+        }
     }
 
-    private static <T> List<Class<?>> searchForPublicConcreteSubTypesOf(final Class<T> type) {
-        String typeName = type.getName();
-        ClassInfoList subTypes = type.isInterface() ? scanResult.getClassesImplementing(typeName) : scanResult.getSubclasses(typeName);
-        List<Class<?>> loadedSubTypes = subTypes.filter(subType -> subType.isPublic() && !subType.isAbstract()).loadClasses(true);
-        return Collections.unmodifiableList(loadedSubTypes);
+    private static final class Scope {
+
+        private final Collection<String> packageNames;
+        private final boolean scanSystemModules;
+
+        private Scope(final Collection<String> packageNames, final boolean scanSystemModules) {
+            this.packageNames = new TreeSet<>(packageNames);
+            this.scanSystemModules = scanSystemModules;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Scope)) {
+                return false;
+            }
+            Scope that = (Scope) o;
+            return scanSystemModules == that.scanSystemModules && packageNames.equals(that.packageNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(packageNames, scanSystemModules);
+        }
+    }
+
+    /*
+     * Names of the public concrete subtypes of each type of a scan result, sorted by name.
+     * Classes are loaded when the subtypes of a given type are requested, they are not cached
+     * here so that the index does not hold the class loader they are loaded with.
+     */
+    private static final class SubTypeIndex {
+
+        private final String[] allTypeNames;
+        private final Map<String, String[]> subTypeNames;
+
+        private SubTypeIndex(final String[] allTypeNames, final Map<String, String[]> subTypeNames) {
+            this.allTypeNames = allTypeNames;
+            this.subTypeNames = subTypeNames;
+        }
+
+        static SubTypeIndex of(final ScanResult scanResult, final IndexedSubTypes indexedSubTypes, final Collection<String> packageNames) {
+            // names are sorted, classes of the scan and of the indexes are interleaved
+            TreeSet<String> allTypeNames = new TreeSet<>();
+            Map<String, TreeSet<String>> subTypeNames = new HashMap<>();
+            for (ClassInfo classInfo : scanResult.getAllClasses()) {
+                if (classInfo.isExternalClass() || !classInfo.isPublic() || classInfo.isAbstract()) {
+                    continue;
+                }
+                String name = classInfo.getName();
+                allTypeNames.add(name);
+                for (ClassInfo superclass : classInfo.getSuperclasses()) {
+                    subTypeNames.computeIfAbsent(superclass.getName(), n -> new TreeSet<>()).add(name);
+                }
+                for (ClassInfo implementedInterface : classInfo.getInterfaces()) {
+                    subTypeNames.computeIfAbsent(implementedInterface.getName(), n -> new TreeSet<>()).add(name);
+                }
+            }
+            indexedSubTypes.getSubTypeNames().forEach((superType, names) -> {
+                for (String name : names) {
+                    if (packageNames.isEmpty() || IndexedSubTypes.isInPackages(name, packageNames)) {
+                        subTypeNames.computeIfAbsent(superType, n -> new TreeSet<>()).add(name);
+                        // all classes are subtypes of Object in the indexes
+                        if (superType.equals(Object.class.getName())) {
+                            allTypeNames.add(name);
+                        }
+                    }
+                }
+            });
+            Map<String, String[]> compactSubTypeNames = new HashMap<>(subTypeNames.size() * 4 / 3 + 1);
+            subTypeNames.forEach((name, names) -> compactSubTypeNames.put(name, names.toArray(new String[0])));
+            return new SubTypeIndex(allTypeNames.toArray(new String[0]), compactSubTypeNames);
+        }
+
+        List<Class<?>> loadPublicConcreteSubTypesOf(final Class<?> type, final ClassLoader classLoader) {
+            String[] names = type == Object.class ? allTypeNames : subTypeNames.get(type.getName());
+            if (names == null || classLoader == null) {
+                return Collections.emptyList();
+            }
+            List<Class<?>> subTypes = new ArrayList<>(names.length);
+            for (String name : names) {
+                Class<?> subType = load(name, classLoader);
+                // indexed classes can be stale
+                if (subType != null && IndexedSubTypes.isPublicConcreteSubType(type, subType)) {
+                    subTypes.add(subType);
+                }
+            }
+            return Collections.unmodifiableList(subTypes);
+        }
+
+        private static Class<?> load(final String name, final ClassLoader classLoader) {
+            try {
+                return Class.forName(name, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                // ignored, like ClassInfoList#loadClasses(true)
+                return null;
+            }
+        }
     }
 }
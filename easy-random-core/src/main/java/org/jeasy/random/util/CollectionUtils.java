@@ -25,6 +25,7 @@ package org.jeasy.random.util;
 
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Collection utility methods.
@@ -46,13 +47,22 @@ public final class CollectionUtils {
      * @return a random element from the list or null if the list is empty
      */
     public static <T> T randomElementOf(final List<T> list) {
+        return randomElementOf(list, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Get a random element from the list, chosen with the given random generator.
+     *
+     * @param list   the input list
+     * @param random the random generator used to choose the element
+     * @param <T>    the type of elements in the list
+     * @return a random element from the list or null if the list is empty
+     */
+    public static <T> T randomElementOf(final List<T> list, final Random random) {
         if (list.isEmpty()) {
             return null;
         }
-        return list.get(nextInt(0, list.size()));
-    }
-
-    private static int nextInt(int startInclusive, int endExclusive) {
-        return startInclusive + new Random().nextInt(endExclusive - startInclusive);
+        int size = list.size();
+        return size == 1 ? list.get(0) : list.get(random.nextInt(size));
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Public concrete subtypes of types in a scope (packages and inclusion of system modules) resolved once,
+ * so that looking up subtypes does not need to resolve the scope and its index again.
+ * The index of the scope (classpath scan and build time indexes) is resolved with the context
+ * class loader of the first lookup. Subtypes of each type are loaded once and cached by this instance:
+ * shared indexes only hold names, so that they do not prevent class loaders from being garbage collected.
+ *
+ *  <strong>This class is intended for internal use only. All public methods
+ *  might change between minor versions without notice.</strong>
+ *
+ * @author agent (agent@local)
+ */
+public final class ConcreteSubTypes {
+
+    private final Collection<String> packageNames;
+    private final boolean scanSystemModules;
+    private final ConcurrentHashMap<Class<?>, List<Class<?>>> typeToConcreteSubTypes = new ConcurrentHashMap<>();
+    private volatile Function<Class<?>, List<Class<?>>> index;
+
+    /**
+     * Create the concrete subtypes of the given scope.
+     *
+     * @param packageNames      names of the packages to search (with their sub-packages), all packages if empty
+     * @param scanSystemModules whether JDK modules (or jars) should be searched as well
+     */
+    public ConcreteSubTypes(final Collection<String> packageNames, final boolean scanSystemModules) {
+        Objects.requireNonNull(packageNames, "Package names must not be null");
+        this.packageNames = new TreeSet<>(packageNames);
+        this.scanSystemModules = scanSystemModules;
+    }
+
+    /**
+     * Get all public concrete subtypes of the given interface or abstract class in this scope.
+     *
+     * @param type to get concrete subtypes of
+     * @return a list of all concrete subtypes found
+     */
+    public List<Class<?>> getPublicConcreteSubTypesOf(final Class<?> type) {
+        List<Class<?>> subTypes = typeToConcreteSubTypes.get(type);
+        if (subTypes == null) {
+            subTypes = typeToConcreteSubTypes.computeIfAbsent(type, getIndex());
+        }
+        return subTypes;
+    }
+
+    private Function<Class<?>, List<Class<?>>> getIndex() {
+        Function<Class<?>, List<Class<?>>> subTypes = index;
+        if (subTypes == null) {
+            subTypes = resolveIndex();
+            index = subTypes;
+        }
+        return subTypes;
+    }
+
+    private Function<Class<?>, List<Class<?>>> resolveIndex() {
+        IndexedSubTypes indexedSubTypes = IndexedSubTypes.get();
+        // classpath elements without index are scanned, ClassGraph is optional when all of them are indexed
+        if (ReflectionUtils.CLASS_GRAPH_AVAILABLE) {
+            return ClassGraphFacade.getPublicConcreteSubTypes(packageNames, scanSystemModules, indexedSubTypes);
+        }
+        return type -> indexedSubTypes.getPublicConcreteSubTypesOf(type, packageNames);
+    }
+}
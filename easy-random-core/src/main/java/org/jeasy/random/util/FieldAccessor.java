@@ -0,0 +1,323 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.jeasy.random.util.ReflectionUtils.isStatic;
+
+/**
+ * Reads and writes the value of a field (accessible or not) through method handles
+ * resolved once per field.
+ *
+ * Accessors are created with a private copy of the field which is made accessible
+ * once, so the accessibility flag of the field given by the caller is never changed.
+ * Primitive specific methods read and write primitive fields without boxing.
+ * When a method handle can not be created for a field (static field, security
+ * restrictions, etc), the accessor falls back to plain reflection.
+ *
+ *  <strong>This class is intended for internal use only. All public methods
+ *  might change between minor versions without notice.</strong>
+ *
+ * @author agent (agent@local)
+ */
+public final class FieldAccessor {
+
+    // accessors are attached to the declaring class of fields so they do not outlive its classloader
+    private static final ClassValue<ConcurrentHashMap<Field, FieldAccessor>> accessors = new ClassValue<ConcurrentHashMap<Field, FieldAccessor>>() {
+        @Override
+        protected ConcurrentHashMap<Field, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Field field;
+
+    private final Class<?> type;
+
+    // (Object)Object and (Object,Object)void views of the field, null if reflection should be used
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    // (Object)primitive and (Object,primitive)void views of the field, null if the field is not primitive
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
+
+    private FieldAccessor(final Field field) {
+        this.field = accessibleCopyOf(field);
+        this.type = field.getType();
+        MethodHandle rawGetter = null;
+        MethodHandle rawSetter = null;
+        if (!isStatic(field)) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                rawGetter = lookup.unreflectGetter(this.field);
+                rawSetter = lookup.unreflectSetter(this.field);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // not all fields can be unreflected (final fields on recent JVMs for instance), use plain reflection
+                rawGetter = null;
+                rawSetter = null;
+            }
+        }
+        if (rawGetter != null && rawSetter != null) {
+            getter = rawGetter.asType(methodType(Object.class, Object.class));
+            setter = rawSetter.asType(methodType(void.class, Object.class, Object.class));
+            primitiveGetter = type.isPrimitive() ? rawGetter.asType(methodType(type, Object.class)) : null;
+            primitiveSetter = type.isPrimitive() ? rawSetter.asType(methodType(void.class, Object.class, type)) : null;
+        } else {
+            getter = null;
+            setter = null;
+            primitiveGetter = null;
+            primitiveSetter = null;
+        }
+    }
+
+    /**
+     * Get the accessor of the given field.
+     *
+     * @param field to access
+     * @return the (cached) accessor of the field
+     */
+    public static FieldAccessor of(final Field field) {
+        return accessors.get(field.getDeclaringClass()).computeIfAbsent(field, FieldAccessor::new);
+    }
+
+    /**
+     * Get the value of the field in the given object.
+     *
+     * @param object instance to get the field value of
+     * @return the value of the field, boxed if the field is primitive
+     * @throws IllegalAccessException if the field can not be accessed
+     */
+    public Object get(final Object object) throws IllegalAccessException {
+        if (getter == null) {
+            return field.get(object);
+        }
+        try {
+            return getter.invokeExact(object);
+        } catch (ClassCastException e) {
+            throw illegalTarget(object, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the field in the given object.
+     *
+     * @param object instance to set the field value on
+     * @param value  to set, unboxed if the field is primitive
+     * @throws IllegalAccessException if the field can not be accessed
+     */
+    public void set(final Object object, final Object value) throws IllegalAccessException {
+        if (setter == null) {
+            field.set(object, value);
+            return;
+        }
+        if (value == null && type.isPrimitive()) {
+            throw new IllegalArgumentException("Can not set primitive field " + field + " to null value");
+        }
+        try {
+            setter.invokeExact(object, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Can not set field " + field + " on " + object.getClass().getName()
+                    + " to value of type " + value.getClass().getName(), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Set the value of an {@code int} field without boxing.
+     *
+     * @param object instance to set the field value on
+     * @param value  to set
+     * @throws IllegalAccessException if the field can not be accessed
+     */
+    public void setInt(final Object object, final int value) throws IllegalAccessException {
+        if (type != int.class || primitiveSetter == null) {
+            set(object, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(object, value);
+        } catch (ClassCastException e) {
+            throw illegalTarget(object, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Set the value of a {@code long} field without boxing.
+     *
+     * @param object instance to set the field value on
+     * @param value  to set
+     * @throws IllegalAccessException if the field can not be accessed
+     */
+    public void setLong(final Object object, final long value) throws IllegalAccessException {
+        if (type != long.class || primitiveSetter == null) {
+            set(object, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(object, value);
+        } catch (ClassCastException e) {
+            throw illegalTarget(object, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Set the value of a {@code double} field without boxing.
+     *
+     * @param object instance to set the field value on
+     * @param value  to set
+     * @throws IllegalAccessException if the field can not be accessed
+     */
+    public void setDouble(final Object object, final double value) throws IllegalAccessException {
+        if (type != double.class || primitiveSetter == null) {
+            set(object, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(object, value);
+        } catch (ClassCastException e) {
+            throw illegalTarget(object, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Set the value of a {@code char} field without boxing.
+     *
+     * @param object instance to set the field value on
+     * @param value  to set
+     * @throws IllegalAccessException if the field can not be accessed
+     */
+    public void setChar(final Object object, final char value) throws IllegalAccessException {
+        if (type != char.class || primitiveSetter == null) {
+            set(object, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(object, value);
+        } catch (ClassCastException e) {
+            throw illegalTarget(object, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Check if the field has the default value set by the JVM in the given object:
+     * {@code null} for reference types, {@code false} for {@code boolean} and zero
+     * for other primitive types. Primitive fields are read without boxing.
+     *
+     * @param object instance to check the field value of
+     * @return true if the field holds its default value, false otherwise
+     * @throws IllegalAccessException if the field can not be accessed
+     */
+    public boolean hasDefaultValue(final Object object) throws IllegalAccessException {
+        if (!type.isPrimitive()) {
+            return get(object) == null;
+        }
+        if (primitiveGetter == null) {
+            return isDefaultPrimitiveValue(field.get(object));
+        }
+        try {
+            if (type == int.class) {
+                return (int) primitiveGetter.invokeExact(object) == 0;
+            }
+            if (type == long.class) {
+                return (long) primitiveGetter.invokeExact(object) == 0L;
+            }
+            if (type == double.class) {
+                return (double) primitiveGetter.invokeExact(object) == 0.0D;
+            }
+            if (type == float.class) {
+                return (float) primitiveGetter.invokeExact(object) == 0.0F;
+            }
+            if (type == boolean.class) {
+                return !(boolean) primitiveGetter.invokeExact(object);
+            }
+            if (type == byte.class) {
+                return (byte) primitiveGetter.invokeExact(object) == (byte) 0;
+            }
+            if (type == short.class) {
+                return (short) primitiveGetter.invokeExact(object) == (short) 0;
+            }
+            return (char) primitiveGetter.invokeExact(object) == '\u0000';
+        } catch (ClassCastException e) {
+            throw illegalTarget(object, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private boolean isDefaultPrimitiveValue(final Object value) {
+        if (type == boolean.class) {
+            return !(boolean) value;
+        }
+        if (type == char.class) {
+            return (char) value == '\u0000';
+        }
+        return ((Number) value).doubleValue() == 0.0D;
+    }
+
+    private IllegalArgumentException illegalTarget(final Object object, final ClassCastException e) {
+        return new IllegalArgumentException("Can not access field " + field + " on " + object.getClass().getName(), e);
+    }
+
+    private static Field accessibleCopyOf(final Field field) {
+        Field copy;
+        try {
+            copy = field.getDeclaringClass().getDeclaredField(field.getName());
+        } catch (NoSuchFieldException e) {
+            copy = field;
+        }
+        copy.setAccessible(true);
+        return copy;
+    }
+}
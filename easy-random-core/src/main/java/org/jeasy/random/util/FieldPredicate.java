@@ -0,0 +1,171 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A field predicate that exposes the components it requires from a field: a name,
+ * a type, a declaring class or one of a set of annotations. These components are
+ * used by {@link FieldPredicateIndex} to look up candidate predicates of a field
+ * in hash maps instead of testing all of them.
+ *
+ * Combining two predicates with {@link #and(Predicate)} keeps the components of both
+ * predicates, so chains like {@code named("name").and(ofType(String.class)).and(inClass(Person.class))}
+ * remain introspectable. Other combinations ({@code or}, {@code negate}) are opaque.
+ *
+ *  <strong>This class is intended for internal use only. All public methods
+ *  might change between minor versions without notice.</strong>
+ *
+ * @author agent (agent@local)
+ */
+public final class FieldPredicate implements Predicate<Field> {
+
+    private final Predicate<Field> delegate;
+
+    private final String name;
+
+    private final Class<?> type;
+
+    private final Class<?> declaringClass;
+
+    private final Set<Class<? extends Annotation>> annotations;
+
+    private FieldPredicate(final Predicate<Field> delegate, final String name, final Class<?> type,
+                           final Class<?> declaringClass, final Set<Class<? extends Annotation>> annotations) {
+        this.delegate = delegate;
+        this.name = name;
+        this.type = type;
+        this.declaringClass = declaringClass;
+        this.annotations = annotations;
+    }
+
+    /**
+     * Create a predicate without any known component.
+     *
+     * @param delegate the predicate to test fields with
+     * @return an introspectable predicate without components
+     */
+    public static FieldPredicate of(final Predicate<Field> delegate) {
+        return new FieldPredicate(delegate, null, null, null, Collections.emptySet());
+    }
+
+    /**
+     * Create a predicate matching only fields with the given name.
+     *
+     * @param delegate the predicate to test fields with
+     * @param name     the name a field must have to match
+     * @return an introspectable predicate requiring the given name
+     */
+    public static FieldPredicate withName(final Predicate<Field> delegate, final String name) {
+        return new FieldPredicate(delegate, name, null, null, Collections.emptySet());
+    }
+
+    /**
+     * Create a predicate matching only fields of the given type.
+     *
+     * @param delegate the predicate to test fields with
+     * @param type     the type a field must have to match
+     * @return an introspectable predicate requiring the given type
+     */
+    public static FieldPredicate withType(final Predicate<Field> delegate, final Class<?> type) {
+        return new FieldPredicate(delegate, null, type, null, Collections.emptySet());
+    }
+
+    /**
+     * Create a predicate matching only fields declared in the given class.
+     *
+     * @param delegate       the predicate to test fields with
+     * @param declaringClass the class a field must be declared in to match
+     * @return an introspectable predicate requiring the given declaring class
+     */
+    public static FieldPredicate withDeclaringClass(final Predicate<Field> delegate, final Class<?> declaringClass) {
+        return new FieldPredicate(delegate, null, null, declaringClass, Collections.emptySet());
+    }
+
+    /**
+     * Create a predicate matching only fields annotated with one of the given annotations.
+     *
+     * @param delegate    the predicate to test fields with
+     * @param annotations the annotations a field must have one of to match
+     * @return an introspectable predicate requiring one of the given annotations
+     */
+    public static FieldPredicate withAnnotations(final Predicate<Field> delegate, final Set<Class<? extends Annotation>> annotations) {
+        return new FieldPredicate(delegate, null, null, null, Collections.unmodifiableSet(annotations));
+    }
+
+    @Override
+    public boolean test(final Field field) {
+        return delegate.test(field);
+    }
+
+    @Override
+    public FieldPredicate and(final Predicate<? super Field> other) {
+        Objects.requireNonNull(other);
+        Predicate<Field> conjunction = field -> delegate.test(field) && other.test(field);
+        if (!(other instanceof FieldPredicate)) {
+            return new FieldPredicate(conjunction, name, type, declaringClass, annotations);
+        }
+        FieldPredicate that = (FieldPredicate) other;
+        // both predicates must hold, so the components of any of them can be required
+        return new FieldPredicate(conjunction,
+                name != null ? name : that.name,
+                type != null ? type : that.type,
+                declaringClass != null ? declaringClass : that.declaringClass,
+                !annotations.isEmpty() ? annotations : that.annotations);
+    }
+
+    /**
+     * @return the name a field must have to match, or null if unknown
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the type a field must have to match, or null if unknown
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the class a field must be declared in to match, or null if unknown
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * @return the annotations a field must have one of to match, empty if unknown
+     */
+    public Set<Class<? extends Annotation>> getAnnotations() {
+        return annotations;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Arrays.asList;
+
+/**
+ * {@link PredicateIndex} of field predicates. A {@link FieldPredicate} is indexed
+ * by the most selective component it requires: its name, then its declaring class,
+ * then its type, then its annotations.
+ *
+ *  <strong>This class is intended for internal use only. All public methods
+ *  might change between minor versions without notice.</strong>
+ *
+ * @param <V> the type of values associated to predicates
+ * @author agent (agent@local)
+ */
+public class FieldPredicateIndex<V> extends PredicateIndex<Field, V> {
+
+    @Override
+    protected Collection<Key> indexKeysOf(final Predicate<Field> predicate) {
+        if (!(predicate instanceof FieldPredicate)) {
+            return Collections.emptyList();
+        }
+        FieldPredicate fieldPredicate = (FieldPredicate) predicate;
+        if (fieldPredicate.getName() != null) {
+            return Collections.singletonList(key(Component.NAME, fieldPredicate.getName()));
+        }
+        if (fieldPredicate.getDeclaringClass() != null) {
+            return Collections.singletonList(key(Component.DECLARING_CLASS, fieldPredicate.getDeclaringClass()));
+        }
+        if (fieldPredicate.getType() != null) {
+            return Collections.singletonList(key(Component.TYPE, fieldPredicate.getType()));
+        }
+        List<Key> keys = new ArrayList<>();
+        for (Class<? extends Annotation> annotation : fieldPredicate.getAnnotations()) {
+            keys.add(key(Component.ANNOTATION, annotation));
+        }
+        return keys;
+    }
+
+    @Override
+    protected Collection<Key> keysOf(final Field field) {
+        return asList(
+                key(Component.NAME, field.getName()),
+                key(Component.DECLARING_CLASS, field.getDeclaringClass()),
+                key(Component.TYPE, field.getType()));
+    }
+
+    @Override
+    protected boolean isAnnotationPresent(final Field field, final Class<? extends Annotation> annotation) {
+        return field.isAnnotationPresent(annotation);
+    }
+}
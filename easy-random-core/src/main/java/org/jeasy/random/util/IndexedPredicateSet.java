@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.lang.reflect.Field;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * A set of predicates backed by a {@link PredicateIndex}, which can be checked
+ * against an element without testing all predicates.
+ *
+ *  <strong>This class is intended for internal use only. All public methods
+ *  might change between minor versions without notice.</strong>
+ *
+ * @param <T> the type of elements tested by predicates
+ * @author agent (agent@local)
+ */
+public class IndexedPredicateSet<T> extends AbstractSet<Predicate<T>> {
+
+    private final PredicateIndex<T, Boolean> index;
+
+    private IndexedPredicateSet(final PredicateIndex<T, Boolean> index) {
+        this.index = index;
+    }
+
+    /**
+     * @return a new empty set of field predicates
+     */
+    public static IndexedPredicateSet<Field> ofFieldPredicates() {
+        return new IndexedPredicateSet<>(new FieldPredicateIndex<>());
+    }
+
+    /**
+     * @return a new empty set of type predicates
+     */
+    public static IndexedPredicateSet<Class<?>> ofTypePredicates() {
+        return new IndexedPredicateSet<>(new TypePredicateIndex<>());
+    }
+
+    /**
+     * Check if any predicate of this set matches the given element.
+     *
+     * @param element to check
+     * @return true if at least one predicate matches the element
+     */
+    public boolean anyMatch(final T element) {
+        return index.anyMatch(element);
+    }
+
+    @Override
+    public boolean add(final Predicate<T> predicate) {
+        return index.put(predicate, Boolean.TRUE) == null;
+    }
+
+    @Override
+    public boolean remove(final Object predicate) {
+        return index.remove(predicate) != null;
+    }
+
+    @Override
+    public boolean contains(final Object predicate) {
+        return index.contains(predicate);
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public Iterator<Predicate<T>> iterator() {
+        final Iterator<Predicate<T>> snapshot = index.predicates().iterator();
+        return new Iterator<Predicate<T>>() {
+
+            private Predicate<T> current;
+
+            @Override
+            public boolean hasNext() {
+                return snapshot.hasNext();
+            }
+
+            @Override
+            public Predicate<T> next() {
+                current = snapshot.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+                index.remove(current);
+                current = null;
+            }
+        };
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+
+/**
+ * Public concrete subtypes of types, read from the indexes generated at build time by
+ * the {@code easy-random-index-processor} module in {@value #INDEX_LOCATION}.
+ * Indexes of all the jars (or directories) of the classpath are merged.
+ *
+ * An index only covers the classes of the classpath element (jar or directory) it is
+ * in: {@link ClassGraphFacade} merges the indexed subtypes with the ones found by
+ * scanning the other classpath elements. Indexes can be stale (incremental builds),
+ * so indexed classes are checked when they are loaded.
+ *
+ * Indexes are read once per class loader. They only hold the names of the indexed types
+ * and a weak reference to their class loader, so they do not prevent class loaders from
+ * being garbage collected: loaded subtypes are cached by the callers (see {@link ConcreteSubTypes}).
+ *
+ * @author agent (agent@local)
+ */
+class IndexedSubTypes {
+
+    // same location as in the processor
+    static final String INDEX_LOCATION = "META-INF/easy-random/subtypes.index";
+
+    // guarded by itself, class loaders are weakly referenced
+    private static final Map<ClassLoader, IndexedSubTypes> instances = new WeakHashMap<>();
+
+    private final WeakReference<ClassLoader> classLoader;
+    private final Map<String, String[]> subTypeNames;
+    private final Set<String> indexedClasspathElements;
+
+    IndexedSubTypes(final ClassLoader classLoader) {
+        this.classLoader = new WeakReference<>(classLoader);
+        Map<String, TreeSet<String>> merged = new HashMap<>();
+        Set<String> classpathElements = new HashSet<>();
+        readIndexes(classLoader, merged, classpathElements);
+        Map<String, String[]> names = new HashMap<>(merged.size() * 4 / 3 + 1);
+        merged.forEach((superType, subTypes) -> names.put(superType, subTypes.toArray(new String[0])));
+        this.subTypeNames = Collections.unmodifiableMap(names);
+        this.indexedClasspathElements = Collections.unmodifiableSet(classpathElements);
+    }
+
+    /**
+     * Get the indexed subtypes of the context class loader.
+     *
+     * @return the indexed subtypes
+     */
+    static IndexedSubTypes get() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ClassLoader classLoader = contextClassLoader != null ? contextClassLoader : IndexedSubTypes.class.getClassLoader();
+        synchronized (instances) {
+            return instances.computeIfAbsent(classLoader, IndexedSubTypes::new);
+        }
+    }
+
+    /**
+     * @return the class loader of these indexes, null if it has been garbage collected
+     */
+    ClassLoader getClassLoader() {
+        return classLoader.get();
+    }
+
+    /**
+     * Get the public concrete subtypes of the given type found in the indexes, in the given packages.
+     *
+     * @param type         to get concrete subtypes of
+     * @param packageNames names of the packages of subtypes (with their sub-packages), all packages if empty
+     * @return the indexed concrete subtypes, empty if the type is not indexed
+     */
+    List<Class<?>> getPublicConcreteSubTypesOf(final Class<?> type, final Collection<String> packageNames) {
+        if (!subTypeNames.containsKey(type.getName())) {
+            return Collections.emptyList();
+        }
+        List<Class<?>> subTypes = load(type);
+        if (packageNames.isEmpty()) {
+            return subTypes;
+        }
+        List<Class<?>> subTypesInPackages = new ArrayList<>(subTypes.size());
+        for (Class<?> subType : subTypes) {
+            if (isInPackages(subType.getName(), packageNames)) {
+                subTypesInPackages.add(subType);
+            }
+        }
+        return subTypesInPackages;
+    }
+
+    /**
+     * Get the names of the indexed subtypes of each type, sorted by name.
+     *
+     * @return the names of the indexed subtypes by name of supertype
+     */
+    Map<String, String[]> getSubTypeNames() {
+        return subTypeNames;
+    }
+
+    /**
+     * Check if the given classpath element has an index, in which case its
+     * classes do not need to be scanned.
+     *
+     * @param classpathElement path of a jar or directory of the classpath
+     * @return true if the classpath element has an index
+     */
+    boolean isIndexed(final String classpathElement) {
+        return !indexedClasspathElements.isEmpty()
+                && indexedClasspathElements.contains(new File(classpathElement).getAbsolutePath());
+    }
+
+    /**
+     * Check if an indexed class is still a public concrete subtype of the given type.
+     *
+     * @param type    the indexed supertype
+     * @param subType the indexed subtype
+     * @return true if the subtype is valid
+     */
+    static boolean isPublicConcreteSubType(final Class<?> type, final Class<?> subType) {
+        int modifiers = subType.getModifiers();
+        return type.isAssignableFrom(subType) && Modifier.isPublic(modifiers) && !Modifier.isAbstract(modifiers)
+                && !subType.isInterface();
+    }
+
+    private List<Class<?>> load(final Class<?> type) {
+        String[] names = subTypeNames.get(type.getName());
+        ClassLoader classLoader = getClassLoader();
+        if (classLoader == null) {
+            return Collections.emptyList();
+        }
+        List<Class<?>> subTypes = new ArrayList<>(names.length);
+        for (String name : names) {
+            try {
+                Class<?> subType = Class.forName(name, false, classLoader);
+                if (isPublicConcreteSubType(type, subType)) {
+                    subTypes.add(subType);
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                // stale index entry, ignored like classes that can not be loaded after a classpath scan
+            }
+        }
+        return Collections.unmodifiableList(subTypes);
+    }
+
+    static boolean isInPackages(final String className, final Collection<String> packageNames) {
+        for (String packageName : packageNames) {
+            if (className.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void readIndexes(final ClassLoader classLoader, final Map<String, TreeSet<String>> merged,
+                                    final Set<String> classpathElements) {
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                readIndex(index, merged);
+                String classpathElement = classpathElementOf(index);
+                if (classpathElement != null) {
+                    classpathElements.add(classpathElement);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read subtypes indexes", e);
+        }
+    }
+
+    /*
+     * Absolute path of the jar or directory containing the given index, null if it is not a file.
+     */
+    private static String classpathElementOf(final URL index) throws IOException {
+        try {
+            if ("jar".equals(index.getProtocol())) {
+                URL jar = ((JarURLConnection) index.openConnection()).getJarFileURL();
+                return "file".equals(jar.getProtocol()) ? new File(jar.toURI()).getAbsolutePath() : null;
+            }
+            if ("file".equals(index.getProtocol())) {
+                File root = new File(index.toURI());
+                for (int i = 0; i < INDEX_LOCATION.split("/").length; i++) {
+                    root = root.getParentFile();
+                }
+                return root.getAbsolutePath();
+            }
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // not a local file, its classpath element is scanned
+        }
+        return null;
+    }
+
+    private static void readIndex(final URL index, final Map<String, TreeSet<String>> merged) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('=');
+                if (separator <= 0) {
+                    continue;
+                }
+                TreeSet<String> subTypes = merged.computeIfAbsent(line.substring(0, separator), name -> new TreeSet<>());
+                for (String subType : line.substring(separator + 1).split(",")) {
+                    if (!subType.isEmpty()) {
+                        subTypes.add(subType);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Ordered association of predicates to values, indexed by the components that
+ * introspectable predicates require from the elements they match.
+ *
+ * Each predicate is stored in the buckets of its index keys (see {@link #indexKeysOf(Predicate)}).
+ * Looking up an element only tests the predicates of the buckets of its own keys,
+ * plus opaque predicates (without index keys) which are always tested. Lookups return
+ * the value of the first matching predicate in registration order, as a linear scan
+ * would. Lookups are lock free, updates are serialized and expected to be rare.
+ *
+ *  <strong>This class is intended for internal use only. All public methods
+ *  might change between minor versions without notice.</strong>
+ *
+ * @param <T> the type of elements tested by predicates
+ * @param <V> the type of values associated to predicates
+ * @author agent (agent@local)
+ */
+public abstract class PredicateIndex<T, V> {
+
+    private final Map<Predicate<T>, Entry<T, V>> entries = new ConcurrentHashMap<>();
+    private final List<Entry<T, V>> orderedEntries = new CopyOnWriteArrayList<>();
+    private final List<Entry<T, V>> unindexedEntries = new CopyOnWriteArrayList<>();
+    private final Map<Key, List<Entry<T, V>>> buckets = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Annotation>, Key> annotationKeys = new ConcurrentHashMap<>();
+    private int sequence;
+
+    /**
+     * Get the keys of the buckets a predicate should be stored in. An element
+     * can only match the predicate if it has at least one of these keys.
+     *
+     * @param predicate to index
+     * @return the index keys of the predicate, empty if the predicate is opaque
+     */
+    protected abstract Collection<Key> indexKeysOf(Predicate<T> predicate);
+
+    /**
+     * Get the keys of an element, except its annotation keys.
+     *
+     * @param element to look up
+     * @return the keys of the element
+     */
+    protected abstract Collection<Key> keysOf(T element);
+
+    /**
+     * Check if an element is annotated with the given annotation.
+     *
+     * @param element    to check
+     * @param annotation to look for
+     * @return true if the element is annotated with the given annotation
+     */
+    protected abstract boolean isAnnotationPresent(T element, Class<? extends Annotation> annotation);
+
+    /**
+     * Associate a value to a predicate. If the predicate is already registered,
+     * its value is replaced and its position in registration order is kept.
+     *
+     * @param predicate to register
+     * @param value     to associate to the predicate
+     * @return the previous value associated to the predicate, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V put(final Predicate<T> predicate, final V value) {
+        Objects.requireNonNull(predicate, "Predicate must not be null");
+        Objects.requireNonNull(value, "Value must not be null");
+        Entry<T, V> existing = entries.get(predicate);
+        if (existing != null) {
+            V previous = existing.value;
+            existing.value = value;
+            return previous;
+        }
+        Entry<T, V> entry = new Entry<>(sequence++, predicate, value);
+        entries.put(predicate, entry);
+        orderedEntries.add(entry);
+        Collection<Key> keys = indexKeysOf(predicate);
+        if (keys.isEmpty()) {
+            unindexedEntries.add(entry);
+        }
+        for (Key key : keys) {
+            if (key.component == Component.ANNOTATION) {
+                annotationKeys.putIfAbsent((Class<? extends Annotation>) key.value, key);
+            }
+            buckets.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(entry);
+        }
+        return null;
+    }
+
+    /**
+     * Remove a predicate.
+     *
+     * @param predicate to remove
+     * @return the value associated to the predicate, or null if the predicate was not registered
+     */
+    public synchronized V remove(final Object predicate) {
+        Entry<T, V> entry = entries.remove(predicate);
+        if (entry == null) {
+            return null;
+        }
+        orderedEntries.remove(entry);
+        unindexedEntries.remove(entry);
+        for (Key key : indexKeysOf(entry.predicate)) {
+            List<Entry<T, V>> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(entry);
+            }
+        }
+        return entry.value;
+    }
+
+    /**
+     * @param predicate to check
+     * @return true if the predicate is registered
+     */
+    public boolean contains(final Object predicate) {
+        return predicate != null && entries.containsKey(predicate);
+    }
+
+    /**
+     * @param predicate to look up
+     * @return the value associated to the predicate, or null if the predicate is not registered
+     */
+    public V get(final Object predicate) {
+        Entry<T, V> entry = predicate == null ? null : entries.get(predicate);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * @return the number of registered predicates
+     */
+    public int size() {
+        return orderedEntries.size();
+    }
+
+    /**
+     * @return a snapshot of the registered predicates, in registration order
+     */
+    public List<Predicate<T>> predicates() {
+        List<Predicate<T>> predicates = new ArrayList<>(orderedEntries.size());
+        for (Entry<T, V> entry : orderedEntries) {
+            predicates.add(entry.predicate);
+        }
+        return predicates;
+    }
+
+    /**
+     * Get the value of the first predicate (in registration order) matching the given element.
+     *
+     * @param element to look up
+     * @return the value of the first matching predicate, or null if no predicate matches
+     */
+    public V getFirstMatch(final T element) {
+        Entry<T, V> match = firstMatch(unindexedEntries, element, null);
+        for (Key key : keysOf(element)) {
+            match = firstMatch(buckets.get(key), element, match);
+        }
+        for (Map.Entry<Class<? extends Annotation>, Key> annotationKey : annotationKeys.entrySet()) {
+            if (isAnnotationPresent(element, annotationKey.getKey())) {
+                match = firstMatch(buckets.get(annotationKey.getValue()), element, match);
+            }
+        }
+        return match == null ? null : match.value;
+    }
+
+    /**
+     * Check if any predicate matches the given element.
+     *
+     * @param element to look up
+     * @return true if at least one predicate matches the element
+     */
+    public boolean anyMatch(final T element) {
+        if (firstMatch(unindexedEntries, element, null) != null) {
+            return true;
+        }
+        for (Key key : keysOf(element)) {
+            if (firstMatch(buckets.get(key), element, null) != null) {
+                return true;
+            }
+        }
+        for (Map.Entry<Class<? extends Annotation>, Key> annotationKey : annotationKeys.entrySet()) {
+            if (isAnnotationPresent(element, annotationKey.getKey())
+                    && firstMatch(buckets.get(annotationKey.getValue()), element, null) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Entry<T, V> firstMatch(final List<Entry<T, V>> candidates, final T element, final Entry<T, V> best) {
+        if (candidates == null) {
+            return best;
+        }
+        // candidates are in registration order: stop at the first one registered after the current best match
+        for (Entry<T, V> candidate : candidates) {
+            if (best != null && candidate.order >= best.order) {
+                return best;
+            }
+            if (candidate.predicate.test(element)) {
+                return candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Create an index key.
+     *
+     * @param component of elements the key refers to
+     * @param value     of the component
+     * @return the index key
+     */
+    protected static Key key(final Component component, final Object value) {
+        return new Key(component, value);
+    }
+
+    /**
+     * Components of elements that predicates can be indexed by.
+     */
+    protected enum Component {
+        NAME, TYPE, DECLARING_CLASS, ANNOTATION
+    }
+
+    /**
+     * Key of a bucket of predicates.
+     */
+    protected static final class Key {
+
+        private final Component component;
+        private final Object value;
+
+        private Key(final Component component, final Object value) {
+            this.component = component;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return component == that.component && value.equals(that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * component.hashCode() + value.hashCode();
+        }
+    }
+
+    private static final class Entry<T, V> {
+
+        private final int order;
+        private final Predicate<T> predicate;
+        private volatile V value;
+
+        private Entry(final int order, final Predicate<T> predicate, final V value) {
+            this.order = order;
+            this.predicate = predicate;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Setter of a property resolved once per (bean type, field) with the JavaBeans
+ * conventions (see {@link PropertyDescriptor}), including the absence of setter.
+ *
+ * Setters are invoked through a method handle when the argument can be passed
+ * as is. Other arguments (that may require a widening conversion or that should
+ * be rejected) go through {@link Method#invoke(Object, Object...)} so that the
+ * behaviour is the same as with plain reflection.
+ *
+ * @author agent (agent@local)
+ */
+final class PropertySetter {
+
+    private static final PropertySetter NO_SETTER = new PropertySetter(null);
+
+    // setters are attached to the bean type so they do not outlive its classloader
+    private static final ClassValue<ConcurrentHashMap<Field, PropertySetter>> setters = new ClassValue<ConcurrentHashMap<Field, PropertySetter>>() {
+        @Override
+        protected ConcurrentHashMap<Field, PropertySetter> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Method method;
+
+    private final Class<?> parameterType;
+
+    private final Class<?> wrapperType;
+
+    private final MethodHandle handle;
+
+    private volatile boolean accessible = true;
+
+    private PropertySetter(final Method method) {
+        this.method = method;
+        this.parameterType = method == null ? null : method.getParameterTypes()[0];
+        this.wrapperType = method == null ? null : ReflectionUtils.getWrapperType(parameterType);
+        this.handle = method == null ? null : unreflect(method);
+    }
+
+    /**
+     * Get the setter of the given field for the given bean type.
+     *
+     * @param beanType type of the bean declaring or inheriting the field
+     * @param field    the field to set
+     * @return the setter of the field
+     */
+    static PropertySetter of(final Class<?> beanType, final Field field) {
+        return setters.get(beanType).computeIfAbsent(field, f -> resolve(beanType, f));
+    }
+
+    /**
+     * Check if the property has a setter that can be invoked.
+     *
+     * @return true if {@link #set(Object, Object)} would invoke a setter, false otherwise
+     */
+    boolean isInvocable() {
+        return method != null && accessible;
+    }
+
+    /**
+     * Invoke the setter on the given bean.
+     *
+     * @param bean  on which the setter should be invoked
+     * @param value to set
+     * @return true if the setter has been invoked, false if there is no accessible setter
+     * @throws InvocationTargetException if the setter throws an exception
+     */
+    boolean set(final Object bean, final Object value) throws InvocationTargetException {
+        if (!isInvocable()) {
+            return false;
+        }
+        if (handle != null && isAssignableWithoutConversion(value)) {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+            return true;
+        }
+        try {
+            method.invoke(bean, value);
+            return true;
+        } catch (IllegalAccessException e) {
+            accessible = false;
+            return false;
+        }
+    }
+
+    private boolean isAssignableWithoutConversion(final Object value) {
+        if (parameterType.isPrimitive()) {
+            return value != null && value.getClass() == wrapperType;
+        }
+        return value == null || parameterType.isInstance(value);
+    }
+
+    private static PropertySetter resolve(final Class<?> beanType, final Field field) {
+        try {
+            Method writeMethod = new PropertyDescriptor(field.getName(), beanType).getWriteMethod();
+            return writeMethod == null ? NO_SETTER : new PropertySetter(writeMethod);
+        } catch (IntrospectionException e) {
+            return NO_SETTER;
+        }
+    }
+
+    private static MethodHandle unreflect(final Method method) {
+        try {
+            // lookup from this package, with the same access checks as Method#invoke
+            return MethodHandles.lookup().unreflect(method)
+                    .asType(methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
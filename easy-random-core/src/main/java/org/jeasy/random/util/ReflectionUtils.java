@@ -26,10 +26,9 @@ package org.jeasy.random.util;
 import org.jeasy.random.annotation.RandomizerArgument;
 import org.jeasy.random.ObjectCreationException;
 import org.jeasy.random.api.Randomizer;
+import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
 
-import java.beans.IntrospectionException;
-import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.math.BigDecimal;
@@ -58,6 +57,11 @@ import static java.util.stream.Collectors.toList;
  */
 public final class ReflectionUtils {
 
+    private static final Objenesis OBJENESIS = new ObjenesisStd();
+
+    // ClassGraph is an optional dependency
+    static final boolean CLASS_GRAPH_AVAILABLE = isClassAvailable("io.github.classgraph.ClassGraph");
+
     private ReflectionUtils() {
     }
 
@@ -133,19 +137,22 @@ public final class ReflectionUtils {
      * @throws IllegalAccessException if the property cannot be set
      */
     public static void setProperty(final Object object, final Field field, final Object value) throws IllegalAccessException, InvocationTargetException {
-        try {
-            PropertyDescriptor propertyDescriptor = new PropertyDescriptor(field.getName(), object.getClass());
-            Method setter = propertyDescriptor.getWriteMethod();
-            if (setter != null) {
-                setter.invoke(object, value);
-            } else {
-                setFieldValue(object, field, value);
-            }
-        } catch (IntrospectionException | IllegalAccessException e) {
+        if (!PropertySetter.of(object.getClass(), field).set(object, value)) {
             setFieldValue(object, field, value);
         }
     }
 
+    /**
+     * Check if a field of the given bean type has a setter that can be invoked.
+     *
+     * @param beanType type of the bean declaring or inheriting the field
+     * @param field    the field to check
+     * @return true if {@link #setProperty(Object, Field, Object)} would use a setter for the field
+     */
+    public static boolean hasInvocableSetter(final Class<?> beanType, final Field field) {
+        return PropertySetter.of(beanType, field).isInvocable();
+    }
+
     /**
      * Set a value (accessible or not accessible) in a field of a target object.
      *
@@ -155,10 +162,7 @@ public final class ReflectionUtils {
      * @throws IllegalAccessException if the property cannot be set
      */
     public static void setFieldValue(final Object object, final Field field, final Object value) throws IllegalAccessException {
-        boolean access = field.isAccessible();
-        field.setAccessible(true);
-        field.set(object, value);
-        field.setAccessible(access);
+        FieldAccessor.of(field).set(object, value);
     }
 
     /**
@@ -170,11 +174,7 @@ public final class ReflectionUtils {
      * @throws IllegalAccessException if field can not be accessed
      */
     public static Object getFieldValue(final Object object, final Field field) throws IllegalAccessException {
-        boolean access = field.isAccessible();
-        field.setAccessible(true);
-        Object value = field.get(object);
-        field.setAccessible(access);
-        return value;
+        return FieldAccessor.of(field).get(object);
     }
 
     /**
@@ -202,39 +202,7 @@ public final class ReflectionUtils {
      * @throws IllegalAccessException if field cannot be accessed
      */
     public static boolean isPrimitiveFieldWithDefaultValue(final Object object, final Field field) throws IllegalAccessException {
-        Class<?> fieldType = field.getType();
-        if (!fieldType.isPrimitive()) {
-            return false;
-        }
-        Object fieldValue = getFieldValue(object, field);
-        if (fieldValue == null) {
-            return false;
-        }
-        if (fieldType.equals(boolean.class) && (boolean) fieldValue == false) {
-            return true;
-        }
-        if (fieldType.equals(byte.class) && (byte) fieldValue == (byte) 0) {
-            return true;
-        }
-        if (fieldType.equals(short.class) && (short) fieldValue == (short) 0) {
-          return true;
-        }
-        if (fieldType.equals(int.class) && (int) fieldValue == 0) {
-            return true;
-        }
-        if (fieldType.equals(long.class) && (long) fieldValue == 0L) {
-            return true;
-        }
-        if (fieldType.equals(float.class) && (float) fieldValue == 0.0F) {
-            return true;
-        }
-        if (fieldType.equals(double.class) && (double) fieldValue == 0.0D) {
-            return true;
-        }
-        if (fieldType.equals(char.class) && (char) fieldValue == '\u0000') {
-            return true;
-        }
-        return false;
+        return field.getType().isPrimitive() && FieldAccessor.of(field).hasDefaultValue(object);
     }
 
     /**
@@ -393,14 +361,31 @@ public final class ReflectionUtils {
     }
 
     /**
-     * Searches the classpath for all public concrete subtypes of the given interface or abstract class.
+     * Searches the classpath (system modules excluded) for all public concrete subtypes of the given interface or abstract class.
+     * Subtypes of classpath elements having a build time index (see {@code easy-random-index-processor}) are read from the index.
      *
      * @param type to search concrete subtypes of
      * @param <T>  the actual type to introspect
      * @return a list of all concrete subtypes found
      */
     public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type) {
-        return ClassGraphFacade.getPublicConcreteSubTypesOf(type);
+        return getPublicConcreteSubTypesOf(type, Collections.emptySet(), false);
+    }
+
+    /**
+     * Searches the given packages of the classpath for all public concrete subtypes of the given interface or abstract class.
+     * Subtypes of classpath elements having a build time index (see {@code easy-random-index-processor}) are read from the index.
+     *
+     * @param type              to search concrete subtypes of
+     * @param packageNames      names of the packages to scan (with their sub-packages), all packages if empty
+     * @param scanSystemModules whether JDK modules (or jars) should be scanned as well
+     * @param <T>               the actual type to introspect
+     * @return a list of all concrete subtypes found
+     * @see ConcreteSubTypes ConcreteSubTypes, to cache the subtypes loaded in a given scope
+     */
+    public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type, final Collection<String> packageNames,
+                                                                 final boolean scanSystemModules) {
+        return new ConcreteSubTypes(packageNames, scanSystemModules).getPublicConcreteSubTypesOf(type);
     }
 
     /**
@@ -455,25 +440,39 @@ public final class ReflectionUtils {
      * @return empty implementation for the collection interface
      */
     public static Collection<?> getEmptyImplementationForCollectionInterface(final Class<?> collectionInterface) {
-        Collection<?> collection = new ArrayList<>();
+        return getEmptyImplementationForCollectionInterface(collectionInterface, 0);
+    }
+
+    /**
+     * Return an empty implementation for a {@link Collection} type, presized
+     * (when the implementation allows it) to hold the expected number of elements.
+     *
+     * @param collectionInterface for which an empty implementation should be returned
+     * @param expectedSize        number of elements that will be added to the collection
+     * @return empty implementation for the collection interface
+     */
+    public static Collection<?> getEmptyImplementationForCollectionInterface(final Class<?> collectionInterface, final int expectedSize) {
+        Collection<?> collection;
         if (List.class.isAssignableFrom(collectionInterface)) {
-            collection = new ArrayList<>();
+            collection = new ArrayList<>(expectedSize);
         } else if (NavigableSet.class.isAssignableFrom(collectionInterface)) {
             collection = new TreeSet<>();
         } else if (SortedSet.class.isAssignableFrom(collectionInterface)) {
             collection = new TreeSet<>();
         } else if (Set.class.isAssignableFrom(collectionInterface)) {
-            collection = new HashSet<>();
+            collection = new HashSet<>(hashCapacityFor(expectedSize));
         } else if (BlockingDeque.class.isAssignableFrom(collectionInterface)) {
             collection = new LinkedBlockingDeque<>();
         } else if (Deque.class.isAssignableFrom(collectionInterface)) {
-            collection = new ArrayDeque<>();
+            collection = new ArrayDeque<>(expectedSize);
         } else if (TransferQueue.class.isAssignableFrom(collectionInterface)) {
             collection = new LinkedTransferQueue<>();
         } else if (BlockingQueue.class.isAssignableFrom(collectionInterface)) {
             collection = new LinkedBlockingQueue<>();
         } else if (Queue.class.isAssignableFrom(collectionInterface)) {
             collection = new LinkedList<>();
+        } else {
+            collection = new ArrayList<>(expectedSize);
         }
         return collection;
     }
@@ -487,13 +486,26 @@ public final class ReflectionUtils {
     public static Collection<?> createEmptyCollectionForType(Class<?> fieldType, int initialSize) {
         rejectUnsupportedTypes(fieldType);
         Collection<?> collection;
+        // presize common JDK implementations, subclasses keep their own constructor
+        if (fieldType.equals(ArrayList.class)) {
+            return new ArrayList<>(initialSize);
+        }
+        if (fieldType.equals(HashSet.class)) {
+            return new HashSet<>(hashCapacityFor(initialSize));
+        }
+        if (fieldType.equals(LinkedHashSet.class)) {
+            return new LinkedHashSet<>(hashCapacityFor(initialSize));
+        }
+        if (fieldType.equals(ArrayDeque.class)) {
+            return new ArrayDeque<>(initialSize);
+        }
         try {
             collection = (Collection<?>) fieldType.newInstance();
         } catch (InstantiationException | IllegalAccessException e) {
             if (fieldType.equals(ArrayBlockingQueue.class)) {
                 collection = new ArrayBlockingQueue<>(initialSize);
             } else {
-                collection = (Collection<?>) new ObjenesisStd().newInstance(fieldType);
+                collection = (Collection<?>) OBJENESIS.newInstance(fieldType);
             }
         }
         return collection;
@@ -505,19 +517,61 @@ public final class ReflectionUtils {
      * @return empty implementation for the given {@link Map} interface.
      */
     public static Map<?, ?> getEmptyImplementationForMapInterface(final Class<?> mapInterface) {
-        Map<?, ?> map = new HashMap<>();
+        return getEmptyImplementationForMapInterface(mapInterface, 0);
+    }
+
+    /**
+     * Return an empty implementation for the given {@link Map} interface, presized
+     * (when the implementation allows it) to hold the expected number of entries.
+     * @param mapInterface for which an empty implementation should be returned
+     * @param expectedSize number of entries that will be put in the map
+     * @return empty implementation for the given {@link Map} interface.
+     */
+    public static Map<?, ?> getEmptyImplementationForMapInterface(final Class<?> mapInterface, final int expectedSize) {
+        Map<?, ?> map;
         if (ConcurrentNavigableMap.class.isAssignableFrom(mapInterface)) {
             map = new ConcurrentSkipListMap<>();
         } else if (ConcurrentMap.class.isAssignableFrom(mapInterface)) {
-            map = new ConcurrentHashMap<>();
+            // the capacity of a ConcurrentHashMap is the number of elements it holds without resizing
+            map = new ConcurrentHashMap<>(expectedSize);
         } else if (NavigableMap.class.isAssignableFrom(mapInterface)) {
             map = new TreeMap<>();
         } else if (SortedMap.class.isAssignableFrom(mapInterface)) {
             map = new TreeMap<>();
+        } else {
+            map = new HashMap<>(hashCapacityFor(expectedSize));
         }
         return map;
     }
 
+    /**
+     * Create an empty map for the given concrete type, presized if the type is
+     * a {@link HashMap} or a {@link LinkedHashMap}.
+     * @param mapType      for which an empty map should be created
+     * @param expectedSize number of entries that will be put in the map
+     * @return empty map, or null if the type is not a presizable map implementation
+     */
+    public static Map<?, ?> createPresizedMapForType(final Class<?> mapType, final int expectedSize) {
+        if (mapType.equals(HashMap.class)) {
+            return new HashMap<>(hashCapacityFor(expectedSize));
+        }
+        if (mapType.equals(LinkedHashMap.class)) {
+            return new LinkedHashMap<>(hashCapacityFor(expectedSize));
+        }
+        return null;
+    }
+
+    /*
+     * Initial capacity of a hash based collection so that it does not resize
+     * before holding the expected number of elements with the default load factor.
+     */
+    private static int hashCapacityFor(final int expectedSize) {
+        if (expectedSize <= 12) {
+            return 16; // default capacity
+        }
+        return expectedSize < (1 << 30) ? (int) (expectedSize / 0.75F + 1.0F) : Integer.MAX_VALUE;
+    }
+
     private static void rejectUnsupportedTypes(Class<?> type) {
         if (type.equals(SynchronousQueue.class)) {
             // SynchronousQueue is not supported since it requires a consuming thread at insertion time
@@ -555,6 +609,15 @@ public final class ReflectionUtils {
         }
     }
 
+    private static boolean isClassAvailable(final String className) {
+        try {
+            Class.forName(className, false, ReflectionUtils.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
     private static <T extends Annotation> T getAnnotationFromReadMethod(Method readMethod, Class<T> clazz) {
         return readMethod == null ? null : readMethod.getAnnotation(clazz);
     }
@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A type predicate that exposes the components it requires from a type: the type
+ * itself, its name or one of a set of annotations. These components are used by
+ * {@link TypePredicateIndex} to look up candidate predicates of a type in hash maps
+ * instead of testing all of them.
+ *
+ * Combining two predicates with {@link #and(Predicate)} keeps the components of both
+ * predicates. Other combinations ({@code or}, {@code negate}) are opaque.
+ *
+ *  <strong>This class is intended for internal use only. All public methods
+ *  might change between minor versions without notice.</strong>
+ *
+ * @author agent (agent@local)
+ */
+public final class TypePredicate implements Predicate<Class<?>> {
+
+    private final Predicate<Class<?>> delegate;
+
+    private final Class<?> type;
+
+    private final String name;
+
+    private final Set<Class<? extends Annotation>> annotations;
+
+    private TypePredicate(final Predicate<Class<?>> delegate, final Class<?> type, final String name,
+                          final Set<Class<? extends Annotation>> annotations) {
+        this.delegate = delegate;
+        this.type = type;
+        this.name = name;
+        this.annotations = annotations;
+    }
+
+    /**
+     * Create a predicate without any known component.
+     *
+     * @param delegate the predicate to test types with
+     * @return an introspectable predicate without components
+     */
+    public static TypePredicate of(final Predicate<Class<?>> delegate) {
+        return new TypePredicate(delegate, null, null, Collections.emptySet());
+    }
+
+    /**
+     * Create a predicate matching only the given type.
+     *
+     * @param delegate the predicate to test types with
+     * @param type     the only type that can match
+     * @return an introspectable predicate requiring the given type
+     */
+    public static TypePredicate withType(final Predicate<Class<?>> delegate, final Class<?> type) {
+        return new TypePredicate(delegate, type, null, Collections.emptySet());
+    }
+
+    /**
+     * Create a predicate matching only types with the given fully qualified name.
+     *
+     * @param delegate the predicate to test types with
+     * @param name     the name a type must have to match
+     * @return an introspectable predicate requiring the given name
+     */
+    public static TypePredicate withName(final Predicate<Class<?>> delegate, final String name) {
+        return new TypePredicate(delegate, null, name, Collections.emptySet());
+    }
+
+    /**
+     * Create a predicate matching only types annotated with one of the given annotations.
+     *
+     * @param delegate    the predicate to test types with
+     * @param annotations the annotations a type must have one of to match
+     * @return an introspectable predicate requiring one of the given annotations
+     */
+    public static TypePredicate withAnnotations(final Predicate<Class<?>> delegate, final Set<Class<? extends Annotation>> annotations) {
+        return new TypePredicate(delegate, null, null, Collections.unmodifiableSet(annotations));
+    }
+
+    @Override
+    public boolean test(final Class<?> clazz) {
+        return delegate.test(clazz);
+    }
+
+    @Override
+    public TypePredicate and(final Predicate<? super Class<?>> other) {
+        Objects.requireNonNull(other);
+        Predicate<Class<?>> conjunction = clazz -> delegate.test(clazz) && other.test(clazz);
+        if (!(other instanceof TypePredicate)) {
+            return new TypePredicate(conjunction, type, name, annotations);
+        }
+        TypePredicate that = (TypePredicate) other;
+        // both predicates must hold, so the components of any of them can be required
+        return new TypePredicate(conjunction,
+                type != null ? type : that.type,
+                name != null ? name : that.name,
+                !annotations.isEmpty() ? annotations : that.annotations);
+    }
+
+    /**
+     * @return the only type that can match, or null if unknown
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the name a type must have to match, or null if unknown
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the annotations a type must have one of to match, empty if unknown
+     */
+    public Set<Class<? extends Annotation>> getAnnotations() {
+        return annotations;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Arrays.asList;
+
+/**
+ * {@link PredicateIndex} of type predicates. A {@link TypePredicate} is indexed
+ * by the most selective component it requires: the type itself, then its name,
+ * then its annotations.
+ *
+ *  <strong>This class is intended for internal use only. All public methods
+ *  might change between minor versions without notice.</strong>
+ *
+ * @param <V> the type of values associated to predicates
+ * @author agent (agent@local)
+ */
+public class TypePredicateIndex<V> extends PredicateIndex<Class<?>, V> {
+
+    @Override
+    protected Collection<Key> indexKeysOf(final Predicate<Class<?>> predicate) {
+        if (!(predicate instanceof TypePredicate)) {
+            return Collections.emptyList();
+        }
+        TypePredicate typePredicate = (TypePredicate) predicate;
+        if (typePredicate.getType() != null) {
+            return Collections.singletonList(key(Component.TYPE, typePredicate.getType()));
+        }
+        if (typePredicate.getName() != null) {
+            return Collections.singletonList(key(Component.NAME, typePredicate.getName()));
+        }
+        List<Key> keys = new ArrayList<>();
+        for (Class<? extends Annotation> annotation : typePredicate.getAnnotations()) {
+            keys.add(key(Component.ANNOTATION, annotation));
+        }
+        return keys;
+    }
+
+    @Override
+    protected Collection<Key> keysOf(final Class<?> type) {
+        return asList(key(Component.TYPE, type), key(Component.NAME, type.getName()));
+    }
+
+    @Override
+    protected boolean isAnnotationPresent(final Class<?> type, final Class<? extends Annotation> annotation) {
+        return type.isAnnotationPresent(annotation);
+    }
+}
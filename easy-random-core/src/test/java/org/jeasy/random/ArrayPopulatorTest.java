@@ -24,6 +24,9 @@
 package org.jeasy.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Array;
@@ -34,10 +37,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.beans.ArrayBean;
 import org.jeasy.random.beans.Person;
+import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
 @ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
 class ArrayPopulatorTest {
 
     private static final int INT = 10;
@@ -65,6 +71,18 @@ class ArrayPopulatorTest {
         assertThat(strings).containsOnly(STRING);
     }
 
+    @Test
+    void arraysOfLeafTypesShouldBeFilledWithTheRandomizerOfTheComponentType() {
+        when(context.getParameters()).thenReturn(new EasyRandomParameters().collectionSizeRange(INT, INT));
+        Randomizer<String> randomizer = () -> STRING;
+        when(easyRandom.getRandomizerForInstancesOf(String.class, context)).thenReturn((Randomizer) randomizer);
+
+        String[] strings = (String[]) arrayPopulator.getRandomArray(String[].class, context);
+
+        assertThat(strings).hasSize(INT).containsOnly(STRING);
+        verify(easyRandom, never()).doPopulateBean(any(), any());
+    }
+
     /*
      * Integration tests for arrays population
      */
@@ -104,6 +122,35 @@ class ArrayPopulatorTest {
         assertThat(toObjectArray(bean.getBooleanArray())).hasOnlyElementsOfType(Boolean.class);
     }
 
+    @Test
+    void primitiveArraysShouldBePopulatedWithCustomRandomizersOfTheComponentType() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(int.class, () -> 42)
+                .randomize(byte.class, () -> (byte) 7);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        final ArrayBean bean = easyRandom.nextObject(ArrayBean.class);
+
+        assertThat(bean.getIntArray()).containsOnly(42);
+        assertThat(bean.getByteArray()).containsOnly((byte) 7);
+    }
+
+    @Test
+    void primitiveArraysShouldBePopulatedWithTheBoxedMethodWhenOnlyThisMethodIsOverridden() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(int.class, new IntegerRangeRandomizer(1, 10) {
+                    @Override
+                    public Integer getRandomValue() {
+                        return 42;
+                    }
+                });
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        final ArrayBean bean = easyRandom.nextObject(ArrayBean.class);
+
+        assertThat(bean.getIntArray()).containsOnly(42);
+    }
+
     @Test
     void wrapperTypeArraysShouldBeCorrectlyPopulated() {
         EasyRandom easyRandom = new EasyRandom();
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+
+import org.jeasy.random.api.ExclusionPolicy;
+import org.jeasy.random.api.RandomizerContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.jeasy.random.beans.Human;
+
+@ExtendWith(MockitoExtension.class)
+class CachingExclusionPolicyTest {
+
+    @Mock
+    private ExclusionPolicy exclusionPolicy;
+    @Mock
+    private RandomizerContext randomizerContext;
+
+    @Test
+    void decisionsOfContextIndependentPoliciesShouldBeComputedOnce() throws NoSuchFieldException {
+        // Given
+        Field field = Human.class.getDeclaredField("name");
+        when(exclusionPolicy.isContextIndependent()).thenReturn(true);
+        when(exclusionPolicy.shouldBeExcluded(field, randomizerContext)).thenReturn(true);
+        when(exclusionPolicy.shouldBeExcluded(Human.class, randomizerContext)).thenReturn(false);
+        ExclusionPolicy cachingExclusionPolicy = CachingExclusionPolicy.of(exclusionPolicy);
+
+        // When
+        cachingExclusionPolicy.shouldBeExcluded(field, randomizerContext);
+        boolean fieldExcluded = cachingExclusionPolicy.shouldBeExcluded(field, randomizerContext);
+        cachingExclusionPolicy.shouldBeExcluded(Human.class, randomizerContext);
+        boolean typeExcluded = cachingExclusionPolicy.shouldBeExcluded(Human.class, randomizerContext);
+
+        // Then
+        assertThat(fieldExcluded).isTrue();
+        assertThat(typeExcluded).isFalse();
+        verify(exclusionPolicy, times(1)).shouldBeExcluded(field, randomizerContext);
+        verify(exclusionPolicy, times(1)).shouldBeExcluded(Human.class, randomizerContext);
+    }
+
+    @Test
+    void contextSensitivePoliciesShouldNotBeCached() {
+        // Given
+        when(exclusionPolicy.isContextIndependent()).thenReturn(false);
+
+        // When
+        ExclusionPolicy actual = CachingExclusionPolicy.of(exclusionPolicy);
+
+        // Then
+        assertThat(actual).isSameAs(exclusionPolicy);
+    }
+
+    @Test
+    void subclassesOfTheDefaultPolicyShouldNotBeCached() {
+        // Given
+        ExclusionPolicy subclass = new DefaultExclusionPolicy() {
+            @Override
+            public boolean shouldBeExcluded(Field field, RandomizerContext context) {
+                return context.getCurrentRandomizationDepth() > 1;
+            }
+        };
+
+        // When
+        ExclusionPolicy actual = CachingExclusionPolicy.of(subclass);
+
+        // Then
+        assertThat(new DefaultExclusionPolicy().isContextIndependent()).isTrue();
+        assertThat(subclass.isContextIndependent()).isFalse();
+        assertThat(actual).isSameAs(subclass);
+    }
+
+}
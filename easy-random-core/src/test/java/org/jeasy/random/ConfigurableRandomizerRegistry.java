@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerRegistry;
+
+/**
+ * Registry of randomizers configured after its creation, which keeps them when it is copied.
+ */
+public class ConfigurableRandomizerRegistry implements RandomizerRegistry {
+
+    private final Map<Class<?>, Randomizer<?>> randomizers = new HashMap<>();
+
+    public ConfigurableRandomizerRegistry with(Class<?> type, Randomizer<?> randomizer) {
+        randomizers.put(type, randomizer);
+        return this;
+    }
+
+    @Override
+    public void init(EasyRandomParameters parameters) {
+        // no op
+    }
+
+    @Override
+    public Randomizer<?> getRandomizer(Field field) {
+        return getRandomizer(field.getType());
+    }
+
+    @Override
+    public Randomizer<?> getRandomizer(Class<?> type) {
+        return randomizers.get(type);
+    }
+
+    @Override
+    public RandomizerRegistry copy(EasyRandomParameters parameters) {
+        ConfigurableRandomizerRegistry copy = new ConfigurableRandomizerRegistry();
+        copy.randomizers.putAll(randomizers);
+        copy.init(parameters);
+        return copy;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+class EasyRandomFactoryTest {
+
+    @Test
+    void instancesShouldGenerateTheSameObjectsAsInstancesCreatedWithTheSameSeed() {
+        // Given
+        EasyRandomFactory factory = new EasyRandomFactory(new EasyRandomParameters());
+
+        // When
+        Person person = factory.create(123L).nextObject(Person.class);
+        Person expected = new EasyRandom(new EasyRandomParameters().seed(123L)).nextObject(Person.class);
+
+        // Then
+        assertThat(person).isEqualToComparingFieldByFieldRecursively(expected);
+    }
+
+    @Test
+    void instancesWithDifferentSeedsShouldGenerateDifferentObjects() {
+        // Given
+        EasyRandomFactory factory = new EasyRandomFactory(new EasyRandomParameters());
+
+        // When
+        String first = factory.create(1L).nextObject(String.class);
+        String second = factory.create(2L).nextObject(String.class);
+
+        // Then
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void instancesShouldNotShareTheirRandomizers() {
+        // Given
+        EasyRandomFactory factory = new EasyRandomFactory(new EasyRandomParameters().seed(123L));
+        EasyRandom first = factory.create();
+        EasyRandom second = factory.create();
+
+        // When
+        LocalDate firstDate = first.nextObject(LocalDate.class);
+        LocalDate secondDate = second.nextObject(LocalDate.class);
+
+        // Then
+        assertThat(secondDate).isEqualTo(firstDate);
+    }
+
+    @Test
+    void registriesOfTheParametersShouldBeInitializedWithTheSeedOfEachInstance() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(123L).randomizerRegistry(new SeededStringRandomizerRegistry());
+        EasyRandomFactory factory = new EasyRandomFactory(parameters);
+
+        // When
+        String value = factory.create(7L).nextObject(String.class);
+        String expected = new EasyRandom(new EasyRandomParameters().seed(7L).randomizerRegistry(new SeededStringRandomizerRegistry()))
+                .nextObject(String.class);
+
+        // Then
+        assertThat(value).isEqualTo(expected);
+        assertThat(factory.create(7L).nextObject(String.class)).isEqualTo(expected);
+    }
+
+    @Test
+    void registriesOfTheParametersShouldKeepTheirConfigurationInEachInstance() {
+        // Given
+        ConfigurableRandomizerRegistry registry = new ConfigurableRandomizerRegistry().with(String.class, () -> "FIXED");
+        EasyRandomFactory factory = new EasyRandomFactory(new EasyRandomParameters().randomizerRegistry(registry));
+
+        // When
+        String value = factory.create(7L).nextObject(String.class);
+
+        // Then
+        assertThat(value).isEqualTo("FIXED");
+    }
+
+    @Test
+    void registriesOfTheParametersThatCanNotBeCopiedShouldBeSharedByAllInstances() {
+        // Given
+        ConfigurableRandomizerRegistry registry = new ConfigurableRandomizerRegistry() {
+            @Override
+            public RandomizerRegistry copy(EasyRandomParameters parameters) {
+                return null;
+            }
+        }.with(String.class, () -> "FIXED");
+        EasyRandomFactory factory = new EasyRandomFactory(new EasyRandomParameters().randomizerRegistry(registry));
+
+        // When
+        String value = factory.create(7L).nextObject(String.class);
+
+        // Then
+        assertThat(value).isEqualTo("FIXED");
+    }
+
+    @Test
+    void parametersShouldBeCopiedWhenTheFactoryIsCreated() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().stringLengthRange(3, 3);
+        EasyRandomFactory factory = new EasyRandomFactory(parameters);
+
+        // When
+        parameters.stringLengthRange(5, 5);
+
+        // Then
+        assertThat(factory.create().nextObject(String.class)).hasSize(3);
+    }
+
+    @Test
+    void threadSafeInstancesShouldBeCreatedFromThreadSafeParameters() {
+        // Given
+        EasyRandomFactory factory = new EasyRandomFactory(new EasyRandomParameters().threadSafe(true));
+
+        // When
+        Person person = factory.create(123L).nextObject(Person.class);
+        Person expected = new EasyRandom(new EasyRandomParameters().seed(123L).threadSafe(true)).nextObject(Person.class);
+
+        // Then
+        assertThat(person).isEqualToComparingFieldByFieldRecursively(expected);
+    }
+}
@@ -24,7 +24,9 @@
 package org.jeasy.random;
 
 import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.beans.*;
+import org.jeasy.random.randomizers.text.StringRandomizer;
 import org.jeasy.random.util.ReflectionUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -40,6 +42,7 @@ import java.util.stream.Stream;
 import static java.sql.Timestamp.valueOf;
 import static java.time.LocalDateTime.of;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.jeasy.random.FieldPredicates.*;
@@ -193,6 +196,184 @@ class EasyRandomTest {
         assertThatThrownBy(() -> easyRandom.objects(Person.class, -2)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void cyclicObjectGraphsShouldBeTheSameForTheSameSeed() {
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(42L).objectPoolSize(3);
+
+        Node node = new EasyRandom(parameters).nextObject(Node.class);
+        Node otherNode = new EasyRandom(parameters).nextObject(Node.class);
+
+        assertThat(describe(node, 8)).isEqualTo(describe(otherNode, 8));
+    }
+
+    private String describe(Node node, int depth) {
+        if (node == null || depth == 0) {
+            return String.valueOf(node == null ? null : node.getValue());
+        }
+        return node.getValue() + "(" + describe(node.getLeft(), depth - 1) + "," + describe(node.getRight(), depth - 1) + ")";
+    }
+
+    @Test
+    void nextObjectsShouldGenerateTheSameObjectsAsObjects() {
+        List<Person> expectedPersons = new EasyRandom().objects(Person.class, 5).collect(toList());
+
+        List<Person> persons = easyRandom.nextObjects(Person.class, 5);
+
+        assertThat(persons).hasSize(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(persons.get(i)).isEqualToComparingFieldByFieldRecursively(expectedPersons.get(i));
+        }
+    }
+
+    @Test
+    void fillShouldReplaceAllElementsOfTheTarget() {
+        List<Street> expectedStreets = new EasyRandom().objects(Street.class, 6).collect(toList());
+
+        Street[] array = easyRandom.fill(new Street[3]);
+        List<Street> list = easyRandom.fill(new ArrayList<>(asList(null, null, null)), Street.class);
+
+        assertThat(array).usingFieldByFieldElementComparator().containsExactlyElementsOf(expectedStreets.subList(0, 3));
+        assertThat(list).usingFieldByFieldElementComparator().containsExactlyElementsOf(expectedStreets.subList(3, 6));
+    }
+
+    @Test
+    void whenSpecifiedNumberOfBeansToGenerateInBulkIsNegative_thenShouldThrowAnIllegalArgumentException() {
+        assertThatThrownBy(() -> easyRandom.nextObjects(Person.class, -2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parallelObjectsShouldBeTheSameRegardlessOfHowTheStreamIsProcessed() {
+        List<Street> sequentialStreets = easyRandom.parallelObjects(Street.class, 20).sequential().collect(toList());
+        List<Street> parallelStreets = easyRandom.parallelObjects(Street.class, 20).collect(toList());
+        List<Street> otherStreets = new EasyRandom().parallelObjects(Street.class, 20).collect(toList());
+
+        assertThat(sequentialStreets).hasSize(20).doesNotContainNull();
+        assertThat(parallelStreets).usingFieldByFieldElementComparator().containsExactlyElementsOf(sequentialStreets);
+        assertThat(otherStreets).usingFieldByFieldElementComparator().containsExactlyElementsOf(sequentialStreets);
+    }
+
+    @Test
+    void parallelObjectsShouldBeTheSameRegardlessOfHowTheStreamIsProcessedWithRegistriesOfTheParameters() {
+        EasyRandomParameters parameters = new EasyRandomParameters().randomizerRegistry(new SeededStringRandomizerRegistry());
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        List<Street> sequentialStreets = easyRandom.parallelObjects(Street.class, 200).sequential().collect(toList());
+        List<Street> parallelStreets = easyRandom.parallelObjects(Street.class, 200).collect(toList());
+
+        assertThat(parallelStreets).usingFieldByFieldElementComparator().containsExactlyElementsOf(sequentialStreets);
+    }
+
+    @Test
+    void whenCustomRandomizersAreRegistered_thenParallelObjectsShouldNotBeGenerated() {
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomize(String.class, new StringRandomizer(42L)));
+
+        assertThatThrownBy(() -> easyRandom.parallelObjects(Street.class, 10)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void parallelObjectsShouldBeSized() {
+        Spliterator<Person> spliterator = easyRandom.parallelObjects(Person.class, 10).spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(10);
+    }
+
+    @Test
+    void objectsByIndexShouldBeGeneratedWithoutPreviousOnes() {
+        List<Street> streets = easyRandom.objects(Street.class, 0, 10).collect(toList());
+
+        assertThat(easyRandom.objects(Street.class, 5, 10).collect(toList()))
+                .usingFieldByFieldElementComparator()
+                .containsExactlyElementsOf(streets.subList(5, 10));
+        assertThat(new EasyRandom().nextObject(Street.class, 7))
+                .isEqualToComparingFieldByField(streets.get(7));
+        assertThat(easyRandom.parallelObjects(Street.class, 10).collect(toList()))
+                .usingFieldByFieldElementComparator()
+                .containsExactlyElementsOf(streets);
+    }
+
+    @Test
+    void registriesOfTheParametersShouldBeSeededForEachIndex() {
+        EasyRandomParameters parameters = new EasyRandomParameters().randomizerRegistry(new SeededStringRandomizerRegistry());
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        List<Street> streets = easyRandom.objects(Street.class, 0, 10).collect(toList());
+
+        assertThat(easyRandom.nextObject(Street.class, 7)).isEqualToComparingFieldByField(streets.get(7));
+        assertThat(new EasyRandom(parameters).nextObject(Street.class, 7)).isEqualToComparingFieldByField(streets.get(7));
+        assertThat(easyRandom.objects(Street.class, 5, 10).collect(toList()))
+                .usingFieldByFieldElementComparator()
+                .containsExactlyElementsOf(streets.subList(5, 10));
+    }
+
+    @Test
+    void whenCustomRandomizersAreRegistered_thenObjectsShouldNotBeGeneratedByIndex() {
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomize(String.class, new StringRandomizer(42L)));
+
+        assertThatThrownBy(() -> easyRandom.nextObject(Street.class, 1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> easyRandom.objects(Street.class, 0, 2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void constantCustomRandomizersShouldBeUsedToGenerateObjectsByIndex() {
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomizeWithSeed(String.class, seed -> () -> "FIXED"));
+
+        assertThat(easyRandom.nextObject(String.class)).isEqualTo("FIXED");
+        assertThat(easyRandom.nextObject(String.class, 3)).isEqualTo("FIXED");
+        assertThat(easyRandom.parallelObjects(String.class, 100)).containsOnly("FIXED");
+    }
+
+    @Test
+    void seededCustomRandomizersShouldBeSeededForEachIndex() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomizeWithSeed(named("name").and(ofType(String.class)).and(inClass(Street.class)), StringRandomizer::new);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        List<Street> streets = easyRandom.objects(Street.class, 0, 10).collect(toList());
+
+        assertThat(streets).extracting(Street::getName).doesNotHaveDuplicates();
+        assertThat(new EasyRandom(parameters).nextObject(Street.class, 7)).isEqualToComparingFieldByField(streets.get(7));
+        assertThat(easyRandom.parallelObjects(Street.class, 10).collect(toList()))
+                .usingFieldByFieldElementComparator()
+                .containsExactlyElementsOf(streets);
+    }
+
+    @Test
+    void registriesOfTheParametersShouldKeepTheirConfigurationForEachIndex() {
+        ConfigurableRandomizerRegistry registry = new ConfigurableRandomizerRegistry().with(String.class, () -> "FIXED");
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomizerRegistry(registry));
+
+        assertThat(easyRandom.nextObject(String.class)).isEqualTo("FIXED");
+        assertThat(easyRandom.nextObject(String.class, 3)).isEqualTo("FIXED");
+        assertThat(easyRandom.parallelObjects(String.class, 100)).containsOnly("FIXED");
+    }
+
+    @Test
+    void whenARegistryOfTheParametersCanNotBeCopied_thenObjectsShouldNotBeGeneratedByIndex() {
+        ConfigurableRandomizerRegistry registry = new ConfigurableRandomizerRegistry() {
+            @Override
+            public RandomizerRegistry copy(EasyRandomParameters parameters) {
+                return null;
+            }
+        }.with(String.class, () -> "FIXED");
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomizerRegistry(registry));
+
+        assertThatThrownBy(() -> easyRandom.nextObject(Street.class, 1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> easyRandom.parallelObjects(Street.class, 2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void whenIndexIsNegative_thenShouldThrowAnIllegalArgumentException() {
+        assertThatThrownBy(() -> easyRandom.nextObject(Person.class, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> easyRandom.objects(Person.class, -1, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> easyRandom.objects(Person.class, 3, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void whenSpecifiedNumberOfParallelBeansToGenerateIsNegative_thenShouldThrowAnIllegalArgumentException() {
+        assertThatThrownBy(() -> easyRandom.parallelObjects(Person.class, -2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void whenUnableToInstantiateField_thenShouldThrowObjectGenerationException() {
         assertThatThrownBy(() -> easyRandom.nextObject(AbstractBean.class)).isInstanceOf(ObjectCreationException.class);
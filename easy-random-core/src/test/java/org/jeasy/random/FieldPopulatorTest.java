@@ -50,6 +50,7 @@ import org.jeasy.random.beans.Human;
 import org.jeasy.random.beans.MapBean;
 import org.jeasy.random.beans.Person;
 import org.jeasy.random.randomizers.misc.SkipRandomizer;
+import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings("unchecked")
@@ -170,6 +171,50 @@ class FieldPopulatorTest {
         assertThat(human.getName()).isNull();
     }
 
+    @Test
+    void whenAPrimitiveRandomizerOverridesOnlyItsBoxedMethod_thenTheBoxedMethodShouldBeUsed() throws Exception {
+        // Given
+        Field value = PrimitiveBean.class.getDeclaredField("value");
+        PrimitiveBean primitiveBean = new PrimitiveBean();
+        Randomizer<Integer> overridingRandomizer = new IntegerRangeRandomizer(1, 10) {
+            @Override
+            public Integer getRandomValue() {
+                return 42;
+            }
+        };
+        RandomizationContext context = Mockito.mock(RandomizationContext.class);
+        when(context.getParameters()).thenReturn(new EasyRandomParameters().bypassSetters(true));
+        when(randomizerProvider.getRandomizerByField(value, context)).thenReturn((Randomizer) overridingRandomizer);
+
+        // When
+        fieldPopulator.populateField(primitiveBean, value, context);
+
+        // Then
+        assertThat(primitiveBean.value).isEqualTo(42);
+    }
+
+    @Test
+    void whenAPrimitiveRandomizerOverridesItsSpecializedMethod_thenTheSpecializedMethodShouldBeUsed() throws Exception {
+        // Given
+        Field value = PrimitiveBean.class.getDeclaredField("value");
+        PrimitiveBean primitiveBean = new PrimitiveBean();
+        Randomizer<Integer> overridingRandomizer = new IntegerRangeRandomizer(1, 10) {
+            @Override
+            public int nextInt() {
+                return 42;
+            }
+        };
+        RandomizationContext context = Mockito.mock(RandomizationContext.class, Mockito.RETURNS_DEEP_STUBS);
+        when(context.getParameters().isBypassSetters()).thenReturn(true);
+        when(randomizerProvider.getRandomizerByField(value, context)).thenReturn((Randomizer) overridingRandomizer);
+
+        // When
+        fieldPopulator.populateField(primitiveBean, value, context);
+
+        // Then
+        assertThat(primitiveBean.value).isEqualTo(42);
+    }
+
     @Test //https://github.com/j-easy/easy-random/issues/221
     @Disabled("Objenesis is able to create an instance of JAXBElement type. Hence no error is thrown as expected in this test")
     void shouldFailWithNiceErrorMessageWhenUnableToCreateFieldValue() throws Exception {
@@ -183,6 +228,10 @@ class FieldPopulatorTest {
           .hasMessage("Unable to create type: javax.xml.bind.JAXBElement for field: jaxbElementField of class: org.jeasy.random.FieldPopulatorTest$JaxbElementFieldBean");
     }
 
+    private static class PrimitiveBean {
+        private int value;
+    }
+
     public class JaxbElementFieldBean {
       JAXBElement<String> jaxbElementField;
     }
@@ -0,0 +1,184 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GeneratedFieldWritersTest {
+
+    private RandomizationContext context;
+
+    private List<Field> fields;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        context = new RandomizationContext(Bean.class, new EasyRandomParameters());
+        fields = fieldsOf(Bean.class, "name", "nickname", "secret", "age", "count");
+    }
+
+    @Test
+    void writersShouldBeGeneratedForSettersAndAccessibleFields() throws Exception {
+        // Given
+
+        // When
+        FieldPopulator.FieldWriter[] writers = GeneratedFieldWriters.of(Bean.class, fields, false);
+
+        // Then
+        assertThat(writers).hasSize(5);
+        assertThat(writers[0]).isNotNull();
+        assertThat(writers[1]).isNotNull();
+        assertThat(writers[2]).as("private field without setter").isNull();
+        assertThat(writers[3]).as("primitive field without setter").isNull();
+        assertThat(writers[4]).isNotNull();
+        assertThat(GeneratedFieldWriters.BeanWriter.class)
+                .isAssignableFrom(Class.forName(Bean.class.getName() + "$EasyRandomSetterWriter"));
+    }
+
+    @Test
+    void generatedWritersShouldCallSettersAndAssignFields() throws Exception {
+        // Given
+        FieldPopulator.FieldWriter[] writers = GeneratedFieldWriters.of(Bean.class, fields, false);
+        Bean bean = new Bean();
+
+        // When
+        writers[0].write(bean, fields.get(0), "foo", context);
+        writers[1].write(bean, fields.get(1), "bar", context);
+
+        // Then
+        assertThat(bean.name).isEqualTo("FOO");
+        assertThat(bean.nickname).isEqualTo("bar");
+    }
+
+    @Test
+    void generatedWritersShouldBypassSettersWhenRequested() throws Exception {
+        // Given
+        FieldPopulator.FieldWriter[] writers = GeneratedFieldWriters.of(Bean.class, fields, true);
+        Bean bean = new Bean();
+
+        // When
+        writers[1].write(bean, fields.get(1), "bar", context);
+
+        // Then
+        assertThat(writers[0]).as("private field").isNull();
+        assertThat(bean.nickname).isEqualTo("bar");
+    }
+
+    @Test
+    void valuesThatNeedAConversionShouldBeWrittenReflectively() throws Exception {
+        // Given
+        FieldPopulator.FieldWriter[] writers = GeneratedFieldWriters.of(Bean.class, fields, false);
+        Bean bean = new Bean();
+
+        // When
+        writers[4].write(bean, fields.get(4), 42, context);
+
+        // Then
+        assertThat(bean.count).isEqualTo(42L);
+    }
+
+    @Test
+    void setterFailuresShouldBeReported() throws Exception {
+        // Given
+        FieldPopulator.FieldWriter[] writers = GeneratedFieldWriters.of(Bean.class, fields, false);
+
+        // When/Then
+        assertThatThrownBy(() -> writers[0].write(new Bean(), fields.get(0), "", context))
+                .isInstanceOf(ObjectCreationException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void noWritersShouldBeReturnedForOtherFields() throws Exception {
+        // Given
+        GeneratedFieldWriters.of(Bean.class, fields, false);
+
+        // When
+        FieldPopulator.FieldWriter[] writers = GeneratedFieldWriters.of(Bean.class, fieldsOf(Bean.class, "count", "name"), false);
+
+        // Then
+        assertThat(writers).isNull();
+    }
+
+    @Test
+    void noWritersShouldBeGeneratedWhenNoFieldIsAccessible() throws Exception {
+        // Given
+        List<Field> fields = fieldsOf(BeanWithPrivateFields.class, "name", "age");
+
+        // When
+        FieldPopulator.FieldWriter[] writers = GeneratedFieldWriters.of(BeanWithPrivateFields.class, fields, true);
+
+        // Then
+        assertThat(writers).isNull();
+    }
+
+    private static List<Field> fieldsOf(final Class<?> type, final String... names) throws NoSuchFieldException {
+        Field[] fields = new Field[names.length];
+        for (int i = 0; i < names.length; i++) {
+            fields[i] = type.getDeclaredField(names[i]);
+        }
+        return asList(fields);
+    }
+
+    public static class Bean {
+
+        private String name;
+        String nickname;
+        private String secret;
+        int age;
+        private long count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Name must not be empty");
+            }
+            this.name = name.toUpperCase();
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+
+    public static class BeanWithPrivateFields {
+
+        private String name;
+        private int age;
+    }
+}
@@ -23,6 +23,8 @@
  */
 package org.jeasy.random;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.jeasy.random.api.RandomizerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,7 +63,95 @@ class ObjenesisObjectFactoryTest {
         assertThatThrownBy(() -> objenesisObjectFactory.createInstance(AbstractFoo.class, context)).isInstanceOf(InstantiationError.class);
     }
 
+    @Test
+    void theNoArgConstructorShouldBeUsedWhenPresent() {
+        WithPrivateNoArgConstructor first = objenesisObjectFactory.createInstance(WithPrivateNoArgConstructor.class, context);
+        WithPrivateNoArgConstructor second = objenesisObjectFactory.createInstance(WithPrivateNoArgConstructor.class, context);
+
+        assertThat(first.initialized).isTrue();
+        assertThat(second.initialized).isTrue();
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void typesWithoutNoArgConstructorShouldBeCreatedWithObjenesis() {
+        WithoutNoArgConstructor first = objenesisObjectFactory.createInstance(WithoutNoArgConstructor.class, context);
+        WithoutNoArgConstructor second = objenesisObjectFactory.createInstance(WithoutNoArgConstructor.class, context);
+
+        assertThat(first.name).isNull();
+        assertThat(second).isNotNull().isNotSameAs(first);
+    }
+
+    @Test
+    void whenTheNoArgConstructorFails_thenObjenesisShouldBeUsed() {
+        WithFailingNoArgConstructor instance = objenesisObjectFactory.createInstance(WithFailingNoArgConstructor.class, context);
+
+        assertThat(instance).isNotNull();
+    }
+
+    @Test
+    void whenTheNoArgConstructorFails_thenItShouldBeCalledAgainForTheNextInstances() {
+        FirstCallFailingNoArgConstructor first = objenesisObjectFactory.createInstance(FirstCallFailingNoArgConstructor.class, context);
+        FirstCallFailingNoArgConstructor second = objenesisObjectFactory.createInstance(FirstCallFailingNoArgConstructor.class, context);
+
+        assertThat(first.initialized).isFalse();
+        assertThat(second.initialized).isTrue();
+    }
+
+    @Test
+    void errorsThrownByTheNoArgConstructorShouldNotBeSwallowed() {
+        assertThatThrownBy(() -> objenesisObjectFactory.createInstance(WithNoArgConstructorThrowingAnError.class, context))
+                .isInstanceOf(ObjectCreationException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
     private abstract class AbstractFoo {
 
     }
+
+    private static class WithPrivateNoArgConstructor {
+
+        private final boolean initialized;
+
+        private WithPrivateNoArgConstructor() {
+            initialized = true;
+        }
+    }
+
+    private static class WithoutNoArgConstructor {
+
+        private final String name;
+
+        WithoutNoArgConstructor(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class WithFailingNoArgConstructor {
+
+        WithFailingNoArgConstructor() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    private static class FirstCallFailingNoArgConstructor {
+
+        private static final AtomicInteger calls = new AtomicInteger();
+
+        private final boolean initialized;
+
+        FirstCallFailingNoArgConstructor() {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalStateException("boom");
+            }
+            initialized = true;
+        }
+    }
+
+    private static class WithNoArgConstructorThrowingAnError {
+
+        WithNoArgConstructorThrowingAnError() {
+            throw new AssertionError("boom");
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.SocialPerson;
+
+class PopulationPlanTest {
+
+    @Test
+    void declaredFieldsShouldBePlannedBeforeInheritedFields() throws Exception {
+        // When
+        PopulationPlan populationPlan = PopulationPlan.of(SocialPerson.class);
+        List<Field> fields = populationPlan.getFields();
+
+        // Then
+        assertThat(populationPlan.isIntrospectable()).isTrue();
+        assertThat(fields.get(0)).isEqualTo(SocialPerson.class.getDeclaredField("friends"));
+        assertThat(fields).contains(Person.class.getDeclaredField("address"));
+        assertThat(fields).hasSize(12);
+    }
+
+    @Test
+    void theSameFieldsShouldBeReturnedForEachPopulation() {
+        // Given
+        PopulationPlan populationPlan = PopulationPlan.of(Person.class);
+
+        // When
+        List<Field> fields = populationPlan.getFields();
+
+        // Then
+        assertThat(populationPlan.getFields()).isSameAs(fields);
+    }
+
+    @Test
+    void outerInstanceFieldOfInnerTypesShouldNotBePlanned() {
+        // When
+        List<Field> fields = PopulationPlan.of(Inner.class).getFields();
+
+        // Then
+        assertThat(fields).extracting(Field::getName).containsExactly("value");
+    }
+
+    @Test
+    void nonIntrospectableTypesShouldHaveNoFields() {
+        // When
+        PopulationPlan populationPlan = PopulationPlan.of(int[].class);
+
+        // Then
+        assertThat(populationPlan.isIntrospectable()).isFalse();
+    }
+
+    class Inner {
+        private String value;
+    }
+}
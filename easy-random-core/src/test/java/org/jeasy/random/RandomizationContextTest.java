@@ -75,6 +75,24 @@ public class RandomizationContextTest {
         assertThat(randomizationContext.hasAlreadyRandomizedType(String.class)).isTrue();
     }
 
+    @Test
+    void whenTheContextIsReset_thenItShouldBeEmpty() throws NoSuchFieldException {
+        // Given
+        when(parameters.getObjectPoolSize()).thenReturn(1);
+        randomizationContext.setRandomizedObject(bean1);
+        randomizationContext.addPopulatedBean(String.class, bean1);
+        randomizationContext.pushStackItem(new RandomizationContextStackItem(bean1, Person.class.getDeclaredField("address")));
+
+        // When
+        randomizationContext.reset(Person.class);
+
+        // Then
+        assertThat(randomizationContext.getTargetType()).isEqualTo(Person.class);
+        assertThat(randomizationContext.getRootObject()).isNull();
+        assertThat(randomizationContext.getCurrentRandomizationDepth()).isZero();
+        assertThat(randomizationContext.hasAlreadyRandomizedType(String.class)).isFalse();
+    }
+
     @Test
     void whenATypeHasNotBeenRandomizedYet_thenHasPopulatedBeanShouldReturnFalse() {
         // Given
@@ -102,6 +120,28 @@ public class RandomizationContextTest {
         assertThat(populatedBean).isIn(bean1, bean2);
     }
 
+    @Test
+    void currentFieldShouldBeUpdatedWhenFramesAreReused() throws NoSuchFieldException {
+        // Given
+        Field address = Person.class.getDeclaredField("address");
+        Field street = Address.class.getDeclaredField("street");
+        Field city = Address.class.getDeclaredField("city");
+        randomizationContext.pushStackItem(bean1, address);
+        randomizationContext.pushStackItem(bean2, street);
+        assertThat(randomizationContext.getCurrentField()).isEqualTo("address.street");
+
+        // When
+        randomizationContext.popStackItem();
+        randomizationContext.pushStackItem(bean2, city);
+
+        // Then
+        assertThat(randomizationContext.getCurrentField()).isEqualTo("address.city");
+        assertThat(randomizationContext.getCurrentObject()).isEqualTo(bean2);
+        randomizationContext.popStackItem();
+        assertThat(randomizationContext.getCurrentField()).isEqualTo("address");
+        assertThat(randomizationContext.getCurrentObject()).isEqualTo(bean1);
+    }
+
     @Test
     void stackedFieldNamesShouldBeCorrectlyEncoded() throws NoSuchFieldException {
         // Given
@@ -23,12 +23,18 @@
  */
 package org.jeasy.random;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.util.LinkedHashSet;
 
+import org.jeasy.random.annotation.Priority;
 import org.jeasy.random.api.RandomizerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -84,4 +90,59 @@ class RegistriesRandomizerProviderTest {
         // Then
         assertThat(actual).isEqualTo(randomizer);
     }
-}
\ No newline at end of file
+
+    @Test
+    void randomizersShouldBeResolvedOncePerField() throws NoSuchFieldException {
+        // Given
+        Field field = Foo.class.getDeclaredField("bar");
+        when(randomizerRegistry.getRandomizer(field)).thenReturn(randomizer);
+
+        // When
+        randomizerProvider.getRandomizerByField(field, context);
+        Randomizer<?> actual = randomizerProvider.getRandomizerByField(field, context);
+
+        // Then
+        assertThat(actual).isEqualTo(randomizer);
+        verify(randomizerRegistry, times(1)).getRandomizer(field);
+    }
+
+    @Test
+    void theAbsenceOfRandomizerShouldBeCached() {
+        // Given
+        Class<String> type = String.class;
+
+        // When
+        Randomizer<?> first = randomizerProvider.getRandomizerByType(type, context);
+        Randomizer<?> second = randomizerProvider.getRandomizerByType(type, context);
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(randomizerRegistry, times(1)).getRandomizer(type);
+    }
+
+    @Test
+    void theRandomizerWithTheHighestPriorityShouldBeReturned() {
+        // Given
+        RandomizerRegistry otherRegistry = mock(RandomizerRegistry.class);
+        Randomizer prioritizedRandomizer = new PrioritizedRandomizer();
+        when(randomizerRegistry.getRandomizer(String.class)).thenReturn(randomizer);
+        when(otherRegistry.getRandomizer(String.class)).thenReturn(prioritizedRandomizer);
+        randomizerProvider = new RegistriesRandomizerProvider();
+        randomizerProvider.setRandomizerRegistries(new LinkedHashSet<>(asList(randomizerRegistry, otherRegistry)));
+
+        // When
+        Randomizer<?> actual = randomizerProvider.getRandomizerByType(String.class, context);
+
+        // Then
+        assertThat(actual).isSameAs(prioritizedRandomizer);
+    }
+
+    @Priority(10)
+    static class PrioritizedRandomizer implements Randomizer<String> {
+        @Override
+        public String getRandomValue() {
+            return "foo";
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+
+import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
+import org.junit.jupiter.api.Test;
+
+class SizeSamplerTest {
+
+    @Test
+    void sizesShouldBeTheSameAsTheOnesOfARangeRandomizerWithTheSameSeed() {
+        Random seeds = new Random(123L);
+        int[][] ranges = {{1, 100}, {0, 0}, {5, 10}, {0, Integer.MAX_VALUE}, {Integer.MIN_VALUE, Integer.MAX_VALUE}};
+        for (int[] range : ranges) {
+            for (int i = 0; i < 1000; i++) {
+                long seed = seeds.nextLong();
+                EasyRandomParameters.Range<Integer> sizeRange = new EasyRandomParameters.Range<>(range[0], range[1]);
+
+                int size = SizeSampler.sample(sizeRange, seed);
+
+                assertThat(size).isEqualTo(new IntegerRangeRandomizer(range[0], range[1], seed).getRandomValue());
+            }
+        }
+    }
+
+    @Test
+    void invalidRangesShouldBeRejected() {
+        assertThatThrownBy(() -> SizeSampler.sample(new EasyRandomParameters.Range<>(10, 1), 123L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
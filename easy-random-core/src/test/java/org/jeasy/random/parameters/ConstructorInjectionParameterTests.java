@@ -0,0 +1,266 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.annotation.RandomizedConstructor;
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.inClass;
+import static org.jeasy.random.FieldPredicates.named;
+
+class ConstructorInjectionParameterTests {
+
+    @Test
+    void whenConstructorInjectionIsActivated_thenImmutableBeansShouldBeCreatedWithTheirWidestConstructor() {
+        // given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().constructorInjection(true));
+
+        // when
+        ImmutablePerson person = easyRandom.nextObject(ImmutablePerson.class);
+
+        // then
+        assertThat(person.createdWithWidestConstructor).isTrue();
+        assertThat(person.name).isNotNull();
+        assertThat(person.nicknames).isNotNull().hasOnlyElementsOfType(String.class);
+        assertThat(person.address).isNotNull();
+        assertThat(person.address.city).isNotNull();
+    }
+
+    @Test
+    void argumentsOfParametersMatchingAFieldShouldBeGeneratedLikeTheField() {
+        // given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .constructorInjection(true)
+                .randomize(named("name").and(inClass(ImmutablePerson.class)), () -> "foo")
+                .excludeField(named("nicknames").and(inClass(ImmutablePerson.class)));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // when
+        ImmutablePerson person = easyRandom.nextObject(ImmutablePerson.class);
+
+        // then
+        assertThat(person.name).isEqualTo("foo");
+        assertThat(person.nicknames).isNull();
+    }
+
+    @Test
+    void theAnnotatedConstructorShouldBeUsedEvenIfTheTypeHasANoArgConstructor() {
+        // given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().constructorInjection(true));
+
+        // when
+        AnnotatedConstructorBean bean = easyRandom.nextObject(AnnotatedConstructorBean.class);
+
+        // then
+        assertThat(bean.createdWithAnnotatedConstructor).isTrue();
+        assertThat(bean.value).isNotNull();
+    }
+
+    @Test
+    void beansWithANoArgConstructorShouldBePopulatedFieldByField() {
+        // given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().constructorInjection(true));
+
+        // when
+        MutableBean bean = easyRandom.nextObject(MutableBean.class);
+
+        // then
+        assertThat(bean.value).isNotNull();
+    }
+
+    @Test
+    void cyclicConstructorArgumentsShouldBeNull() {
+        // given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().constructorInjection(true));
+
+        // when
+        Parent parent = easyRandom.nextObject(Parent.class);
+
+        // then
+        assertThat(parent.child).isNotNull();
+        assertThat(parent.child.parent).isNull();
+    }
+
+    @Test
+    void beansCreatedForConstructorArgumentsShouldNotBeTakenForTheRootObject() {
+        // given
+        AtomicReference<Object> rootObjectSeenByCity = new AtomicReference<>(new Object());
+        ContextAwareRandomizer<String> cityRandomizer = new ContextAwareRandomizer<String>() {
+
+            private RandomizerContext context;
+
+            @Override
+            public void setRandomizerContext(RandomizerContext context) {
+                this.context = context;
+            }
+
+            @Override
+            public String getRandomValue() {
+                rootObjectSeenByCity.set(context.getRootObject());
+                return "Paris";
+            }
+        };
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .constructorInjection(true)
+                .randomize(named("city").and(inClass(Address.class)), cityRandomizer);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // when
+        ImmutablePerson person = easyRandom.nextObject(ImmutablePerson.class);
+
+        // then
+        assertThat(person.address.city).isEqualTo("Paris");
+        assertThat(rootObjectSeenByCity.get()).isNull();
+    }
+
+    @Test
+    void beansCreatedThroughTheirConstructorShouldBeTheRootObjectOfTheirFields() {
+        // given
+        AtomicReference<Object> rootObjectSeenByValue = new AtomicReference<>();
+        ContextAwareRandomizer<String> valueRandomizer = new ContextAwareRandomizer<String>() {
+
+            private RandomizerContext context;
+
+            @Override
+            public void setRandomizerContext(RandomizerContext context) {
+                this.context = context;
+            }
+
+            @Override
+            public String getRandomValue() {
+                rootObjectSeenByValue.set(context.getRootObject());
+                return "foo";
+            }
+        };
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .constructorInjection(true)
+                .randomize(named("value").and(inClass(MutableBean.class)), valueRandomizer);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // when
+        Holder holder = easyRandom.nextObject(Holder.class);
+
+        // then
+        assertThat(holder.bean.value).isEqualTo("foo");
+        assertThat(rootObjectSeenByValue.get()).isNull();
+        assertThat(easyRandom.nextObject(MutableBean.class).value).isEqualTo("foo");
+        assertThat(rootObjectSeenByValue.get()).isInstanceOf(MutableBean.class);
+    }
+
+    static class ImmutablePerson {
+
+        private final String name;
+        private final List<String> nicknames;
+        private final Address address;
+        private final boolean createdWithWidestConstructor;
+
+        ImmutablePerson(String name) {
+            this.name = name;
+            this.nicknames = null;
+            this.address = null;
+            this.createdWithWidestConstructor = false;
+        }
+
+        @ConstructorProperties({"name", "nicknames", "address"})
+        ImmutablePerson(String name, List<String> nicknames, Address address) {
+            this.name = name;
+            this.nicknames = nicknames;
+            this.address = address;
+            this.createdWithWidestConstructor = true;
+        }
+    }
+
+    static class Address {
+
+        private final String city;
+
+        @ConstructorProperties({"city"})
+        Address(String city) {
+            this.city = city;
+        }
+    }
+
+    static class AnnotatedConstructorBean {
+
+        private String value;
+        private boolean createdWithAnnotatedConstructor;
+
+        AnnotatedConstructorBean() {
+        }
+
+        @RandomizedConstructor
+        AnnotatedConstructorBean(String value) {
+            this.value = value;
+            this.createdWithAnnotatedConstructor = true;
+        }
+    }
+
+    static class MutableBean {
+
+        private String value;
+
+        MutableBean() {
+        }
+
+        MutableBean(String value, int ignored) {
+            throw new IllegalStateException("should not be used");
+        }
+    }
+
+    static class Holder {
+
+        private final MutableBean bean;
+
+        Holder(MutableBean bean) {
+            this.bean = bean;
+        }
+    }
+
+    static class Parent {
+
+        private final Child child;
+
+        Parent(Child child) {
+            this.child = child;
+        }
+    }
+
+    static class Child {
+
+        private final Parent parent;
+
+        Child(Parent parent) {
+            this.parent = parent;
+        }
+    }
+}
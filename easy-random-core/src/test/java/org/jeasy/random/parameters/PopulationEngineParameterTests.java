@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.ObjectCreationException;
+import org.jeasy.random.beans.BeanWithDefaultFieldValues;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Salary;
+import org.jeasy.random.beans.Street;
+import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.EasyRandomParameters.PopulationEngine.GENERATED;
+import static org.jeasy.random.FieldPredicates.inClass;
+import static org.jeasy.random.FieldPredicates.named;
+import static org.jeasy.random.FieldPredicates.ofType;
+
+class PopulationEngineParameterTests {
+
+    @Test
+    void generatedEngineShouldPopulateBeansLikeTheReflectiveEngine() {
+        // Given
+        EasyRandom reflectiveEasyRandom = new EasyRandom(new EasyRandomParameters().seed(123L));
+        EasyRandom generatedEasyRandom = new EasyRandom(new EasyRandomParameters().seed(123L).populationEngine(GENERATED));
+
+        // When
+        Person reflectivePerson = reflectiveEasyRandom.nextObject(Person.class);
+        Person generatedPerson = generatedEasyRandom.nextObject(Person.class);
+
+        // Then
+        assertThat(generatedPerson).isEqualToComparingFieldByFieldRecursively(reflectivePerson);
+    }
+
+    @Test
+    void generatedEngineShouldGenerateAWriterClassForEachBeanType() throws Exception {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().populationEngine(GENERATED));
+
+        // When
+        easyRandom.nextObject(Street.class);
+
+        // Then
+        assertThat(Class.forName(Street.class.getName() + "$EasyRandomSetterWriter")).isNotNull();
+    }
+
+    @Test
+    void generatedEngineShouldPopulateBeansLikeTheReflectiveEngineWhenSettersAreBypassed() {
+        // Given
+        EasyRandom reflectiveEasyRandom = new EasyRandom(new EasyRandomParameters().seed(123L).bypassSetters(true));
+        EasyRandom generatedEasyRandom = new EasyRandom(new EasyRandomParameters().seed(123L).bypassSetters(true).populationEngine(GENERATED));
+
+        // When
+        Person reflectivePerson = reflectiveEasyRandom.nextObject(Person.class);
+        Person generatedPerson = generatedEasyRandom.nextObject(Person.class);
+
+        // Then
+        assertThat(generatedPerson).isEqualToComparingFieldByFieldRecursively(reflectivePerson);
+    }
+
+    @Test
+    void generatedEngineShouldInvokeSetters() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .populationEngine(GENERATED)
+                .randomize(named("amount").and(ofType(int.class)).and(inClass(Salary.class)),
+                        new IntegerRangeRandomizer(1, 10))
+                .excludeField(named("setterInvoked").and(ofType(boolean.class)).and(inClass(Salary.class)));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Salary salary = easyRandom.nextObject(Salary.class);
+
+        // Then
+        assertThat(salary.getAmount()).isBetween(1, 10);
+        assertThat(salary.isSetterInvoked()).isTrue();
+    }
+
+    @Test
+    void generatedEngineShouldBypassSettersWhenRequested() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .populationEngine(GENERATED)
+                .bypassSetters(true)
+                .randomize(named("amount").and(ofType(int.class)).and(inClass(Salary.class)),
+                        new IntegerRangeRandomizer(-10, -1))
+                .excludeField(named("setterInvoked").and(ofType(boolean.class)).and(inClass(Salary.class)));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Salary salary = easyRandom.nextObject(Salary.class);
+
+        // Then
+        assertThat(salary.getAmount()).isBetween(-10, -1);
+        assertThat(salary.isSetterInvoked()).isFalse();
+    }
+
+    @Test
+    void generatedEngineShouldReportSetterFailures() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .populationEngine(GENERATED)
+                .randomize(named("amount").and(ofType(int.class)).and(inClass(Salary.class)),
+                        new IntegerRangeRandomizer(-10, -1));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When/Then
+        assertThatThrownBy(() -> easyRandom.nextObject(Salary.class))
+                .isInstanceOf(ObjectCreationException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void generatedEngineShouldNotOverrideDefaultInitialization() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().populationEngine(GENERATED));
+
+        // When
+        BeanWithDefaultFieldValues bean = easyRandom.nextObject(BeanWithDefaultFieldValues.class);
+
+        // Then
+        assertThat(bean.getDefaultNonNullValue()).isEqualTo("default");
+        assertThat(bean.getDefaultNonNullValueSetByConstructor()).isEqualTo("defaultSetByConstructor");
+    }
+}
@@ -120,6 +120,28 @@ class ScanClasspathForConcreteTypesParameterTests {
         then(randomValue.getTestEnum()).isNotNull();
     }
 
+    @Test
+    void whenClasspathScanPackagesAreSet_thenOnlyConcreteTypesOfThesePackagesShouldBeUsed() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(true)
+                .classpathScanPackages("org.jeasy.random.beans");
+        easyRandom = new EasyRandom(parameters);
+
+        Mamals mamals = easyRandom.nextObject(Mamals.class);
+
+        assertThat(mamals.getMamal()).isOfAnyClassIn(Human.class, Ape.class, Person.class, SocialPerson.class);
+    }
+
+    @Test
+    void whenClasspathScanPackagesDoNotContainConcreteTypes_thenShouldFailToPopulateAbstractTypes() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(true)
+                .classpathScanPackages("org.jeasy.random.randomizers");
+        easyRandom = new EasyRandom(parameters);
+
+        assertThatThrownBy(() -> easyRandom.nextObject(Bar.class)).isInstanceOf(ObjectCreationException.class);
+    }
+
     // issue https://github.com/j-easy/easy-random/issues/353
 
     @Test
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import org.jeasy.random.ConfigurableRandomizerRegistry;
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomizerProvider;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ThreadSafeParameterTests {
+
+    @Test
+    void threadSafeEasyRandomShouldBeSharableByMultipleThreads() throws Exception {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().threadSafe(true));
+        int threads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        List<Callable<List<Person>>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(() -> {
+                List<Person> persons = new ArrayList<>();
+                for (int j = 0; j < 100; j++) {
+                    persons.add(easyRandom.nextObject(Person.class));
+                }
+                return persons;
+            });
+        }
+
+        // When
+        List<Person> persons = new ArrayList<>();
+        try {
+            for (Future<List<Person>> future : executorService.invokeAll(tasks)) {
+                persons.addAll(future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // Then
+        assertThat(persons).hasSize(threads * 100).doesNotContainNull();
+        assertThat(persons).extracting(Person::getName).doesNotContainNull();
+    }
+
+    @Test
+    void threadSafeEasyRandomShouldGenerateTheSameObjectsForTheSameSeedInASingleThread() {
+        // Given
+        EasyRandom easyRandom1 = new EasyRandom(new EasyRandomParameters().seed(42L).threadSafe(true));
+        EasyRandom easyRandom2 = new EasyRandom(new EasyRandomParameters().seed(42L).threadSafe(true));
+
+        // When
+        Person person1 = easyRandom1.nextObject(Person.class);
+        Person person2 = easyRandom2.nextObject(Person.class);
+        int int1 = easyRandom1.nextInt();
+        int int2 = easyRandom2.nextInt();
+
+        // Then
+        assertThat(person1).isEqualToComparingFieldByFieldRecursively(person2);
+        assertThat(int1).isEqualTo(int2);
+    }
+
+    @Test
+    void registriesOfTheParametersShouldKeepTheirConfigurationInEachThread() throws Exception {
+        // Given
+        ConfigurableRandomizerRegistry registry = new ConfigurableRandomizerRegistry().with(String.class, () -> "FIXED");
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomizerRegistry(registry).threadSafe(true));
+        int threads = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(() -> easyRandom.nextObject(String.class));
+        }
+
+        // When
+        List<String> values = new ArrayList<>();
+        try {
+            for (Future<String> future : executorService.invokeAll(tasks)) {
+                values.add(future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // Then
+        assertThat(values).hasSize(threads).containsOnly("FIXED");
+    }
+
+    @Test
+    void threadSafeModeShouldRejectCustomRandomizerProviders() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .threadSafe(true)
+                .randomizerProvider(mock(RandomizerProvider.class));
+
+        // When/Then
+        assertThatThrownBy(() -> new EasyRandom(parameters)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
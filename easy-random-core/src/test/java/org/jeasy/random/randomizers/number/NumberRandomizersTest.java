@@ -37,6 +37,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -90,4 +91,11 @@ class NumberRandomizersTest extends AbstractRandomizerTest<Object> {
 
         then(actual).isEqualTo(expected);
     }
+
+    @Test
+    void primitiveValuesShouldBeTheSameAsBoxedValuesForTheSameSeed() {
+        then(aNewIntegerRandomizer(SEED).nextInt()).isEqualTo(aNewIntegerRandomizer(SEED).getRandomValue());
+        then(aNewLongRandomizer(SEED).nextLong()).isEqualTo(aNewLongRandomizer(SEED).getRandomValue());
+        then(aNewDoubleRandomizer(SEED).nextDouble()).isEqualTo(aNewDoubleRandomizer(SEED).getRandomValue());
+    }
 }
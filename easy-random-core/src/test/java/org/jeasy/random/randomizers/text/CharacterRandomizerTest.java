@@ -26,6 +26,8 @@ package org.jeasy.random.randomizers.text;
 import static org.jeasy.random.randomizers.text.CharacterRandomizer.aNewCharacterRandomizer;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -61,4 +63,16 @@ class CharacterRandomizerTest extends AbstractRandomizerTest<Character> {
         assertThat(randomizer.getRandomValue()).isBetween('A', 'z');
     }
 
+    @Test
+    void shouldGenerateUsAsciiLettersWhateverTheCharset() {
+        // Given
+        randomizer = aNewCharacterRandomizer(StandardCharsets.ISO_8859_1, SEED);
+        CharacterRandomizer usAsciiRandomizer = aNewCharacterRandomizer(SEED);
+
+        // When / Then
+        for (int i = 0; i < 100; i++) {
+            assertThat(randomizer.getRandomValue()).isEqualTo(usAsciiRandomizer.getRandomValue());
+        }
+    }
+
 }
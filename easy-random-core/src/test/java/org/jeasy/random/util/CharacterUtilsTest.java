@@ -23,10 +23,13 @@
  */
 package org.jeasy.random.util;
 
+import static org.jeasy.random.util.CharacterUtils.collectPrintableCharactersOf;
 import static org.jeasy.random.util.CharacterUtils.filterLetters;
+import static org.jeasy.random.util.CharacterUtils.lettersOf;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -39,4 +42,22 @@ class CharacterUtilsTest {
 
         assertThat(characters).containsExactly('a', 'b');
     }
-}
\ No newline at end of file
+
+    @Test
+    void lettersOfACharsetShouldBeComputedOnce() {
+        char[] letters = lettersOf(StandardCharsets.US_ASCII);
+
+        assertThat(lettersOf(StandardCharsets.US_ASCII)).isSameAs(letters);
+        assertThat(new String(letters)).isEqualTo("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+        assertThat(filterLetters(collectPrintableCharactersOf(StandardCharsets.ISO_8859_1)))
+                .containsExactlyElementsOf(asList(toObjects(lettersOf(StandardCharsets.ISO_8859_1))));
+    }
+
+    private static Character[] toObjects(char[] chars) {
+        Character[] characters = new Character[chars.length];
+        for (int i = 0; i < chars.length; i++) {
+            characters[i] = chars[i];
+        }
+        return characters;
+    }
+}
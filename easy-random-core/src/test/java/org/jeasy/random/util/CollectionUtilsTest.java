@@ -24,10 +24,15 @@
 package org.jeasy.random.util;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 class CollectionUtilsTest {
 
     @Test
@@ -41,4 +46,24 @@ class CollectionUtilsTest {
         // Then
         assertThat(element).isIn(elements);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRandomElementOfWithSeededRandom() {
+        // Given
+        List<String> elements = asList("foo", "bar", "baz", "qux");
+
+        // When
+        List<String> picks = new ArrayList<>();
+        List<String> otherPicks = new ArrayList<>();
+        Random random = new Random(123L);
+        Random otherRandom = new Random(123L);
+        for (int i = 0; i < 10; i++) {
+            picks.add(CollectionUtils.randomElementOf(elements, random));
+            otherPicks.add(CollectionUtils.randomElementOf(elements, otherRandom));
+        }
+
+        // Then
+        assertThat(picks).isEqualTo(otherPicks);
+        assertThat(CollectionUtils.<String>randomElementOf(emptyList(), random)).isNull();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.jeasy.random.beans.Bar;
+import org.jeasy.random.beans.ConcreteBar;
+import org.junit.jupiter.api.Test;
+
+class ConcreteSubTypesTest {
+
+    @Test
+    void subTypesShouldBeTheOnesOfTheScope() {
+        // Given
+        ConcreteSubTypes concreteSubTypes = new ConcreteSubTypes(singleton("org.jeasy.random.beans"), false);
+
+        // When
+        List<Class<?>> subTypes = concreteSubTypes.getPublicConcreteSubTypesOf(Bar.class);
+
+        // Then
+        assertThat(subTypes).containsExactly(ConcreteBar.class);
+        assertThat(new ConcreteSubTypes(singleton("org.jeasy.random.util"), false).getPublicConcreteSubTypesOf(Bar.class)).isEmpty();
+    }
+
+    @Test
+    void indexOfTheScopeShouldBeResolvedOnce() {
+        // Given
+        ConcreteSubTypes concreteSubTypes = new ConcreteSubTypes(singleton("org.jeasy.random.beans"), false);
+        List<Class<?>> subTypes = concreteSubTypes.getPublicConcreteSubTypesOf(Bar.class);
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        // a class loader without any class: the index has already been resolved with the previous one
+        Thread.currentThread().setContextClassLoader(new ClassLoader(null) { });
+        try {
+            // When / Then
+            assertThat(concreteSubTypes.getPublicConcreteSubTypesOf(Bar.class)).isSameAs(subTypes);
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Test;
+
+class FieldAccessorTest {
+
+    @Test
+    void testGetAndSetPrivateField() throws Exception {
+        // Given
+        Field name = Bean.class.getDeclaredField("name");
+        Bean bean = new Bean();
+
+        // When
+        FieldAccessor.of(name).set(bean, "foo");
+
+        // Then
+        assertThat(FieldAccessor.of(name).get(bean)).isEqualTo("foo");
+        assertThat(name.isAccessible()).isFalse();
+    }
+
+    @Test
+    void testAccessorIsCachedPerField() throws Exception {
+        assertThat(FieldAccessor.of(Bean.class.getDeclaredField("name")))
+                .isSameAs(FieldAccessor.of(Bean.class.getDeclaredField("name")));
+    }
+
+    @Test
+    void testSetPrimitiveFields() throws Exception {
+        // Given
+        Bean bean = new Bean();
+
+        // When
+        FieldAccessor.of(Bean.class.getDeclaredField("anInt")).setInt(bean, 1);
+        FieldAccessor.of(Bean.class.getDeclaredField("aLong")).setLong(bean, 2L);
+        FieldAccessor.of(Bean.class.getDeclaredField("aDouble")).setDouble(bean, 3.0D);
+        FieldAccessor.of(Bean.class.getDeclaredField("aFloat")).set(bean, 4.0F);
+        FieldAccessor.of(Bean.class.getDeclaredField("aChar")).setChar(bean, 'a');
+
+        // Then
+        assertThat(bean.anInt).isEqualTo(1);
+        assertThat(bean.aLong).isEqualTo(2L);
+        assertThat(bean.aDouble).isEqualTo(3.0D);
+        assertThat(bean.aFloat).isEqualTo(4.0F);
+        assertThat(bean.aChar).isEqualTo('a');
+    }
+
+    @Test
+    void testSetFinalField() throws Exception {
+        // Given
+        Bean bean = new Bean();
+
+        // When
+        FieldAccessor.of(Bean.class.getDeclaredField("constant")).set(bean, "bar");
+
+        // Then
+        assertThat(FieldAccessor.of(Bean.class.getDeclaredField("constant")).get(bean)).isEqualTo("bar");
+    }
+
+    @Test
+    void testHasDefaultValue() throws Exception {
+        // Given
+        Bean bean = new Bean();
+        FieldAccessor name = FieldAccessor.of(Bean.class.getDeclaredField("name"));
+        FieldAccessor anInt = FieldAccessor.of(Bean.class.getDeclaredField("anInt"));
+        FieldAccessor aBoolean = FieldAccessor.of(Bean.class.getDeclaredField("aBoolean"));
+        FieldAccessor aChar = FieldAccessor.of(Bean.class.getDeclaredField("aChar"));
+
+        // Then
+        assertThat(name.hasDefaultValue(bean)).isTrue();
+        assertThat(anInt.hasDefaultValue(bean)).isTrue();
+        assertThat(aBoolean.hasDefaultValue(bean)).isTrue();
+        assertThat(aChar.hasDefaultValue(bean)).isTrue();
+
+        // When
+        bean.name = "foo";
+        bean.anInt = 1;
+        bean.aBoolean = true;
+        bean.aChar = 'a';
+
+        // Then
+        assertThat(name.hasDefaultValue(bean)).isFalse();
+        assertThat(anInt.hasDefaultValue(bean)).isFalse();
+        assertThat(aBoolean.hasDefaultValue(bean)).isFalse();
+        assertThat(aChar.hasDefaultValue(bean)).isFalse();
+    }
+
+    @Test
+    void testSetIllegalValue() throws Exception {
+        // Given
+        Bean bean = new Bean();
+        FieldAccessor anInt = FieldAccessor.of(Bean.class.getDeclaredField("anInt"));
+        FieldAccessor name = FieldAccessor.of(Bean.class.getDeclaredField("name"));
+
+        // Then
+        assertThatThrownBy(() -> anInt.set(bean, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> name.set(bean, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class Bean {
+        private final String constant = new String("constant");
+        private String name;
+        private int anInt;
+        private long aLong;
+        private double aDouble;
+        private float aFloat;
+        private boolean aBoolean;
+        private char aChar;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.inClass;
+import static org.jeasy.random.FieldPredicates.isAnnotatedWith;
+import static org.jeasy.random.FieldPredicates.named;
+import static org.jeasy.random.FieldPredicates.ofType;
+
+import java.lang.reflect.Field;
+import java.util.function.Predicate;
+
+import org.jeasy.random.annotation.Exclude;
+import org.junit.jupiter.api.Test;
+
+class FieldPredicateIndexTest {
+
+    private final FieldPredicateIndex<String> index = new FieldPredicateIndex<>();
+
+    @Test
+    void predicatesBuiltWithFieldPredicatesShouldExposeTheirComponents() {
+        // When
+        Predicate<Field> predicate = named("name").and(ofType(String.class)).and(inClass(Bean.class));
+
+        // Then
+        assertThat(predicate).isInstanceOf(FieldPredicate.class);
+        FieldPredicate fieldPredicate = (FieldPredicate) predicate;
+        assertThat(fieldPredicate.getName()).isEqualTo("name");
+        assertThat(fieldPredicate.getType()).isEqualTo(String.class);
+        assertThat(fieldPredicate.getDeclaringClass()).isEqualTo(Bean.class);
+        assertThat(((FieldPredicate) named("name.*")).getName()).isNull();
+    }
+
+    @Test
+    void theFirstMatchingPredicateInRegistrationOrderShouldWin() throws Exception {
+        // Given
+        index.put(field -> field.getName().startsWith("na"), "opaque");
+        index.put(named("name").and(ofType(String.class)), "named");
+
+        // When
+        String value = index.getFirstMatch(Bean.class.getDeclaredField("name"));
+
+        // Then
+        assertThat(value).isEqualTo("opaque");
+    }
+
+    @Test
+    void indexedPredicatesShouldOnlyMatchFieldsWithTheirComponents() throws Exception {
+        // Given
+        index.put(named("name").and(inClass(Bean.class)), "name");
+        index.put(ofType(int.class), "int");
+        index.put(isAnnotatedWith(Exclude.class), "excluded");
+
+        // When / Then
+        assertThat(index.getFirstMatch(Bean.class.getDeclaredField("name"))).isEqualTo("name");
+        assertThat(index.getFirstMatch(Bean.class.getDeclaredField("age"))).isEqualTo("int");
+        assertThat(index.getFirstMatch(Bean.class.getDeclaredField("excluded"))).isEqualTo("excluded");
+        assertThat(index.getFirstMatch(Bean.class.getDeclaredField("nickname"))).isNull();
+        assertThat(index.anyMatch(Bean.class.getDeclaredField("nickname"))).isFalse();
+    }
+
+    @Test
+    void removedPredicatesShouldNotMatch() throws Exception {
+        // Given
+        Predicate<Field> predicate = named("name");
+        index.put(predicate, "name");
+
+        // When
+        index.remove(predicate);
+
+        // Then
+        assertThat(index.size()).isZero();
+        assertThat(index.anyMatch(Bean.class.getDeclaredField("name"))).isFalse();
+    }
+
+    static class Bean {
+        private String name;
+        private String nickname;
+        private int age;
+        @Exclude
+        private Object excluded;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.named;
+import static org.jeasy.random.TypePredicates.inPackage;
+import static org.jeasy.random.TypePredicates.ofType;
+
+import java.lang.reflect.Field;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+class IndexedPredicateSetTest {
+
+    @Test
+    void fieldPredicatesShouldBeAddedCheckedAndRemoved() throws Exception {
+        // Given
+        IndexedPredicateSet<Field> predicates = IndexedPredicateSet.ofFieldPredicates();
+        Predicate<Field> predicate = named("name");
+
+        // When
+        boolean added = predicates.add(predicate);
+
+        // Then
+        assertThat(added).isTrue();
+        assertThat(predicates.add(predicate)).isFalse();
+        assertThat(predicates).containsExactly(predicate);
+        assertThat(predicates.anyMatch(Bean.class.getDeclaredField("name"))).isTrue();
+        assertThat(predicates.anyMatch(Bean.class.getDeclaredField("age"))).isFalse();
+        assertThat(predicates.remove(predicate)).isTrue();
+        assertThat(predicates).isEmpty();
+        assertThat(predicates.anyMatch(Bean.class.getDeclaredField("name"))).isFalse();
+    }
+
+    @Test
+    void typePredicatesShouldBeAddedCheckedAndRemoved() {
+        // Given
+        IndexedPredicateSet<Class<?>> predicates = IndexedPredicateSet.ofTypePredicates();
+        Predicate<Class<?>> indexed = ofType(Bean.class);
+        Predicate<Class<?>> unindexed = inPackage("java.lang");
+
+        // When
+        predicates.add(indexed);
+        predicates.add(unindexed);
+
+        // Then
+        assertThat(predicates).containsExactly(indexed, unindexed);
+        assertThat(predicates.contains(indexed)).isTrue();
+        assertThat(predicates.anyMatch(Bean.class)).isTrue();
+        assertThat(predicates.anyMatch(String.class)).isTrue();
+        assertThat(predicates.anyMatch(List.class)).isFalse();
+        assertThat(predicates.remove(indexed)).isTrue();
+        assertThat(predicates.remove(indexed)).isFalse();
+        assertThat(predicates.anyMatch(Bean.class)).isFalse();
+        assertThat(predicates).hasSize(1);
+    }
+
+    @Test
+    void predicatesRemovedThroughTheIteratorShouldNotMatch() {
+        // Given
+        IndexedPredicateSet<Class<?>> predicates = IndexedPredicateSet.ofTypePredicates();
+        predicates.add(ofType(Bean.class));
+
+        // When
+        Iterator<Predicate<Class<?>>> iterator = predicates.iterator();
+        iterator.next();
+        iterator.remove();
+
+        // Then
+        assertThat(predicates).isEmpty();
+        assertThat(predicates.anyMatch(Bean.class)).isFalse();
+    }
+
+    static class Bean {
+        private String name;
+        private int age;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jeasy.random.beans.Bar;
+import org.jeasy.random.beans.ConcreteBar;
+import org.jeasy.random.beans.Foo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IndexedSubTypesTest {
+
+    @TempDir
+    Path classpathRoot;
+
+    @Test
+    void subTypesShouldBeReadFromTheIndex() throws IOException {
+        // Given
+        IndexedSubTypes indexedSubTypes = new IndexedSubTypes(classLoaderWithIndex(
+                "org.jeasy.random.beans.Bar=org.jeasy.random.beans.ConcreteBar,org.jeasy.random.beans.Missing\n"));
+
+        // When / Then
+        assertThat(indexedSubTypes.getPublicConcreteSubTypesOf(Bar.class, emptySet())).containsExactly(ConcreteBar.class);
+        assertThat(indexedSubTypes.getPublicConcreteSubTypesOf(Bar.class, singleton("org.jeasy.random.beans"))).containsExactly(ConcreteBar.class);
+        assertThat(indexedSubTypes.getPublicConcreteSubTypesOf(Bar.class, singleton("org.jeasy.random.util"))).isEmpty();
+    }
+
+    @Test
+    void typesMissingFromTheIndexShouldHaveNoIndexedSubTypes() throws IOException {
+        // Given
+        IndexedSubTypes indexedSubTypes = new IndexedSubTypes(classLoaderWithIndex(
+                "org.jeasy.random.beans.Bar=org.jeasy.random.beans.ConcreteBar\n"));
+
+        // When / Then
+        assertThat(indexedSubTypes.getPublicConcreteSubTypesOf(Foo.class, emptySet())).isEmpty();
+    }
+
+    @Test
+    void staleIndexEntriesShouldBeIgnored() throws IOException {
+        // Given
+        IndexedSubTypes indexedSubTypes = new IndexedSubTypes(classLoaderWithIndex(
+                "org.jeasy.random.beans.Bar=org.jeasy.random.beans.ConcreteBar,org.jeasy.random.beans.Foo\n"));
+
+        // When / Then
+        assertThat(indexedSubTypes.getPublicConcreteSubTypesOf(Bar.class, emptySet())).containsExactly(ConcreteBar.class);
+    }
+
+    @Test
+    void classpathElementsOfIndexesShouldBeKnown() throws IOException {
+        // Given
+        IndexedSubTypes indexedSubTypes = new IndexedSubTypes(classLoaderWithIndex("java.lang.Object=org.jeasy.random.beans.Foo\n"));
+
+        // When / Then
+        assertThat(indexedSubTypes.isIndexed(classpathRoot.toString())).isTrue();
+        assertThat(indexedSubTypes.isIndexed(classpathRoot.resolve("other").toString())).isFalse();
+    }
+
+    @Test
+    void subTypesOutsideOfIndexedClasspathElementsShouldBeFoundByScanning() throws IOException {
+        // Given
+        // an index that does not know ConcreteBar, which is in another (not indexed) classpath element
+        ClassLoader classLoader = classLoaderWithIndex("org.jeasy.random.beans.Bar=org.jeasy.random.beans.Missing\n");
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            // When
+            List<Class<?>> subTypes = ReflectionUtils.getPublicConcreteSubTypesOf(Bar.class, singleton("org.jeasy.random.beans"), false);
+
+            // Then
+            assertThat(subTypes).containsExactly(ConcreteBar.class);
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    void indexesShouldNotPreventClassLoadersFromBeingGarbageCollected() throws Exception {
+        // Given
+        ClassLoader classLoader = classLoaderWithIndex("org.jeasy.random.beans.Bar=org.jeasy.random.beans.ConcreteBar\n");
+        WeakReference<ClassLoader> classLoaderReference = new WeakReference<>(classLoader);
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            assertThat(ReflectionUtils.getPublicConcreteSubTypesOf(Bar.class, singleton("org.jeasy.random.beans"), false)).containsExactly(ConcreteBar.class);
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+
+        // When
+        classLoader = null;
+        for (int i = 0; i < 10 && classLoaderReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertThat(classLoaderReference.get()).isNull();
+    }
+
+    private ClassLoader classLoaderWithIndex(final String index) throws IOException {
+        Path indexFile = classpathRoot.resolve(IndexedSubTypes.INDEX_LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, index.getBytes(StandardCharsets.UTF_8));
+        return new URLClassLoader(new URL[]{classpathRoot.toUri().toURL()}, getClass().getClassLoader());
+    }
+}
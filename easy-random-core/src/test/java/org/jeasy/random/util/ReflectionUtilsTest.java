@@ -30,6 +30,7 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.util.*;
@@ -158,6 +159,47 @@ class ReflectionUtilsTest {
         assertThat(ReflectionUtils.isPrimitiveFieldWithDefaultValue(nonDefaultValueBean, nonDefaultValueClass.getField("c"))).isFalse();
     }
 
+    @Test
+    void testSetPropertyUsesSetterWhenPresent() throws Exception {
+        // Given
+        BeanWithSetter bean = new BeanWithSetter();
+
+        // When
+        ReflectionUtils.setProperty(bean, BeanWithSetter.class.getDeclaredField("name"), "foo");
+        ReflectionUtils.setProperty(bean, BeanWithSetter.class.getDeclaredField("age"), 42);
+
+        // Then
+        assertThat(bean.getName()).isEqualTo("foo");
+        assertThat(bean.getAge()).isEqualTo(42);
+        assertThat(bean.setterCalls).isEqualTo(2);
+    }
+
+    @Test
+    void testSetPropertyUsesFieldWhenNoSetter() throws Exception {
+        // Given
+        BeanWithSetter bean = new BeanWithSetter();
+
+        // When
+        ReflectionUtils.setProperty(bean, BeanWithSetter.class.getDeclaredField("withoutSetter"), "foo");
+        ReflectionUtils.setProperty(bean, BeanWithSetter.class.getDeclaredField("withoutSetter"), "bar");
+
+        // Then
+        assertThat(bean.getWithoutSetter()).isEqualTo("bar");
+        assertThat(bean.setterCalls).isZero();
+    }
+
+    @Test
+    void testSetPropertyWrapsSetterExceptions() throws Exception {
+        // Given
+        BeanWithSetter bean = new BeanWithSetter();
+        Field failing = BeanWithSetter.class.getDeclaredField("failing");
+
+        // Then
+        assertThatThrownBy(() -> ReflectionUtils.setProperty(bean, failing, "foo"))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void testGetReadMethod() throws NoSuchFieldException {
         assertThat(ReflectionUtils.getReadMethod(PrimitiveFieldsWithDefaultValuesBean.class.getDeclaredField("b"))).isEmpty();
@@ -198,6 +240,16 @@ class ReflectionUtilsTest {
         assertThat(collection).isInstanceOf(ArrayList.class).isEmpty();
     }
 
+    @Test
+    void testGetPresizedImplementationForCollectionInterface() {
+        assertThat(ReflectionUtils.getEmptyImplementationForCollectionInterface(List.class, 1000)).isInstanceOf(ArrayList.class).isEmpty();
+        assertThat(ReflectionUtils.getEmptyImplementationForCollectionInterface(Set.class, 1000)).isInstanceOf(HashSet.class).isEmpty();
+        assertThat(ReflectionUtils.getEmptyImplementationForCollectionInterface(SortedSet.class, 1000)).isInstanceOf(TreeSet.class).isEmpty();
+        assertThat(ReflectionUtils.getEmptyImplementationForMapInterface(Map.class, 1000)).isInstanceOf(HashMap.class).isEmpty();
+        assertThat(ReflectionUtils.createPresizedMapForType(LinkedHashMap.class, 1000)).isInstanceOf(LinkedHashMap.class).isEmpty();
+        assertThat(ReflectionUtils.createPresizedMapForType(TreeMap.class, 1000)).isNull();
+    }
+
     @Test
     void createEmptyCollectionForArrayBlockingQueue() {
         Collection<?> collection = ReflectionUtils.createEmptyCollectionForType(ArrayBlockingQueue.class, INITIAL_CAPACITY);
@@ -279,6 +331,44 @@ class ReflectionUtilsTest {
         }
     }
 
+    public static class BeanWithSetter {
+        private String name;
+        private int age;
+        private String withoutSetter;
+        private String failing;
+        private int setterCalls;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+            setterCalls++;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+            setterCalls++;
+        }
+
+        public String getWithoutSetter() {
+            return withoutSetter;
+        }
+
+        public String getFailing() {
+            return failing;
+        }
+
+        public void setFailing(String failing) {
+            throw new IllegalStateException("failing setter");
+        }
+    }
+
     private class Dummy { }
 
     @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER })
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.TypePredicates.inPackage;
+import static org.jeasy.random.TypePredicates.isAnnotatedWith;
+import static org.jeasy.random.TypePredicates.named;
+import static org.jeasy.random.TypePredicates.ofType;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+class TypePredicateIndexTest {
+
+    private final TypePredicateIndex<String> index = new TypePredicateIndex<>();
+
+    @Test
+    void predicatesBuiltWithTypePredicatesShouldExposeTheirComponents() {
+        // When
+        Predicate<Class<?>> predicate = named(Bean.class.getName()).and(ofType(Bean.class));
+
+        // Then
+        assertThat(predicate).isInstanceOf(TypePredicate.class);
+        TypePredicate typePredicate = (TypePredicate) predicate;
+        assertThat(typePredicate.getName()).isEqualTo(Bean.class.getName());
+        assertThat(typePredicate.getType()).isEqualTo(Bean.class);
+        assertThat(((TypePredicate) isAnnotatedWith(FunctionalInterface.class)).getAnnotations()).containsExactly(FunctionalInterface.class);
+        assertThat(((TypePredicate) inPackage("org.jeasy")).getType()).isNull();
+    }
+
+    @Test
+    void theFirstMatchingPredicateInRegistrationOrderShouldWin() {
+        // Given
+        index.put(inPackage("org.jeasy.random"), "package");
+        index.put(ofType(Bean.class), "type");
+
+        // When
+        String value = index.getFirstMatch(Bean.class);
+
+        // Then
+        assertThat(value).isEqualTo("package");
+    }
+
+    @Test
+    void indexedPredicatesShouldOnlyMatchTypesWithTheirComponents() {
+        // Given
+        index.put(ofType(Bean.class), "type");
+        index.put(named(String.class.getName()), "name");
+        index.put(isAnnotatedWith(FunctionalInterface.class), "annotation");
+
+        // When / Then
+        assertThat(index.getFirstMatch(Bean.class)).isEqualTo("type");
+        assertThat(index.getFirstMatch(String.class)).isEqualTo("name");
+        assertThat(index.getFirstMatch(AnnotatedBean.class)).isEqualTo("annotation");
+        assertThat(index.getFirstMatch(Integer.class)).isNull();
+        assertThat(index.anyMatch(Integer.class)).isFalse();
+    }
+
+    @Test
+    void removedPredicatesShouldNotMatch() {
+        // Given
+        Predicate<Class<?>> predicate = ofType(Bean.class);
+        index.put(predicate, "type");
+
+        // When
+        index.remove(predicate);
+
+        // Then
+        assertThat(index.size()).isZero();
+        assertThat(index.anyMatch(Bean.class)).isFalse();
+    }
+
+    static class Bean {
+    }
+
+    @FunctionalInterface
+    interface AnnotatedBean {
+        void run();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing an index of the public concrete subtypes of the
+ * abstract classes and interfaces of a compilation. Easy Random reads
+ * this index when looking for concrete subtypes (see {@code EasyRandomParameters#scanClasspathForConcreteTypes})
+ * and only scans the classpath for types that are not indexed.
+ *
+ * The processor is opt-in: add this module to the annotation processor path of the
+ * compiler. The index lists the subtypes compiled in a module for all their supertypes,
+ * including the ones defined in other modules or in the JDK: Easy Random merges it with
+ * the indexes of other modules and with a scan of the classpath elements without index.
+ * After an incremental compilation, the new entries are merged with the previous index
+ * (stale entries are checked and ignored at runtime).
+ *
+ * The index is written in {@code META-INF/easy-random/subtypes.index} as lines
+ * {@code supertype=subtype1,subtype2} of binary class names, sorted by name.
+ *
+ * @author agent (agent@local)
+ */
+@SupportedAnnotationTypes("*")
+public class SubTypesIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the index in the class output, and then in the classpath.
+     */
+    public static final String INDEX_LOCATION = "META-INF/easy-random/subtypes.index";
+
+    private final Map<String, Set<String>> subTypesBySuperType = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            writeIndex();
+        } else {
+            for (TypeElement type : ElementFilter.typesIn(roundEnvironment.getRootElements())) {
+                index(type);
+            }
+        }
+        // annotations are not claimed, other processors still see them
+        return false;
+    }
+
+    private void index(final TypeElement type) {
+        String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+        if (isPublicConcreteClass(type)) {
+            Set<String> superTypes = new TreeSet<>();
+            collectSuperTypes(type.asType(), superTypes);
+            for (String superType : superTypes) {
+                subTypesBySuperType.computeIfAbsent(superType, key -> new TreeSet<>()).add(name);
+            }
+        }
+        for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+            index(nestedType);
+        }
+    }
+
+    private static boolean isPublicConcreteClass(final TypeElement type) {
+        Set<Modifier> modifiers = type.getModifiers();
+        return type.getKind() == ElementKind.CLASS && modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.ABSTRACT);
+    }
+
+    private void collectSuperTypes(final TypeMirror type, final Set<String> superTypes) {
+        for (TypeMirror superType : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (superType.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            Element element = ((DeclaredType) superType).asElement();
+            String name = processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+            if (superTypes.add(name)) {
+                collectSuperTypes(superType, superTypes);
+            }
+        }
+    }
+
+    private void writeIndex() {
+        if (subTypesBySuperType.isEmpty()) {
+            return;
+        }
+        try {
+            readPreviousIndex();
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Set<String>> entry : subTypesBySuperType.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('=');
+                    writer.write(String.join(",", entry.getValue()));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write the subtypes index: " + e.getMessage());
+        }
+    }
+
+    /*
+     * Merge the index of a previous (incremental) compilation in the same output, if any.
+     */
+    private void readPreviousIndex() {
+        try {
+            FileObject previousIndex = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(previousIndex.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int separator = line.indexOf('=');
+                    if (separator <= 0) {
+                        continue;
+                    }
+                    Set<String> subTypes = subTypesBySuperType.computeIfAbsent(line.substring(0, separator), key -> new TreeSet<>());
+                    for (String subType : line.substring(separator + 1).split(",")) {
+                        if (!subType.isEmpty()) {
+                            subTypes.add(subType);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no previous index
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.index;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SubTypesIndexProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void publicConcreteSubTypesShouldBeIndexedForAllTheirSuperTypes() throws IOException {
+        // Given
+        List<JavaFileObject> sources = asList(
+                source("test.Animal", "package test; public interface Animal {}"),
+                source("test.Mammal", "package test; public abstract class Mammal implements Animal, Comparable<Mammal> {}"),
+                source("test.Dog", "package test; public class Dog extends Mammal {"
+                        + " public int compareTo(Mammal other) { return 0; }"
+                        + " public static class Puppy extends Dog {} }"),
+                source("test.Cat", "package test; class Cat extends Mammal { public int compareTo(Mammal other) { return 0; } }"));
+
+        // When
+        compile(sources);
+
+        // Then
+        List<String> index = Files.readAllLines(output.resolve(SubTypesIndexProcessor.INDEX_LOCATION), StandardCharsets.UTF_8);
+        assertThat(index).containsExactly(
+                "java.lang.Comparable=test.Dog,test.Dog$Puppy",
+                "java.lang.Object=test.Dog,test.Dog$Puppy",
+                "test.Animal=test.Dog,test.Dog$Puppy",
+                "test.Dog=test.Dog$Puppy",
+                "test.Mammal=test.Dog,test.Dog$Puppy");
+    }
+
+    @Test
+    void incrementalCompilationsShouldBeMergedWithThePreviousIndex() throws IOException {
+        // Given
+        compile(singletonList(source("test.Dog", "package test; public class Dog implements Runnable { public void run() {} }")));
+
+        // When
+        compile(singletonList(source("test.Cat", "package test; public class Cat implements Runnable { public void run() {} }")));
+
+        // Then
+        List<String> index = Files.readAllLines(output.resolve(SubTypesIndexProcessor.INDEX_LOCATION), StandardCharsets.UTF_8);
+        assertThat(index).containsExactly(
+                "java.lang.Object=test.Cat,test.Dog",
+                "java.lang.Runnable=test.Cat,test.Dog");
+    }
+
+    private void compile(final List<JavaFileObject> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                asList("-d", output.toString(), "-proc:only"), null, sources);
+        task.setProcessors(singletonList(new SubTypesIndexProcessor()));
+        assertThat(task.call()).isTrue();
+    }
+
+    private static JavaFileObject source(final String className, final String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
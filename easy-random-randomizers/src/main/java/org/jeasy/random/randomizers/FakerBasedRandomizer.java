@@ -24,6 +24,7 @@
 package org.jeasy.random.randomizers;
 
 import com.github.javafaker.Faker;
+import com.github.javafaker.service.RandomService;
 import org.jeasy.random.api.Randomizer;
 
 import java.util.Locale;
@@ -31,6 +32,9 @@ import java.util.Locale;
 /**
  * Abstract {@link Randomizer} based on <a href="https://github.com/DiUS/java-faker">Faker</a>.
  *
+ * Faker dictionaries are loaded once per locale and shared by all randomizers,
+ * each randomizer picking values with its own random generator.
+ *
  * @param <T> the element type
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
@@ -39,7 +43,7 @@ public abstract class FakerBasedRandomizer<T> extends AbstractRandomizer<T> {
     protected final Faker faker;
 
     protected FakerBasedRandomizer() {
-        faker = new Faker(Locale.ENGLISH);
+        faker = newFaker(Locale.ENGLISH, new RandomService());
     }
 
     protected FakerBasedRandomizer(final long seed) {
@@ -48,6 +52,10 @@ public abstract class FakerBasedRandomizer<T> extends AbstractRandomizer<T> {
 
     protected FakerBasedRandomizer(final long seed, final Locale locale) {
         super(seed);
-        faker = new Faker(locale, random);
+        faker = newFaker(locale, new RandomService(random));
+    }
+
+    private static Faker newFaker(final Locale locale, final RandomService randomService) {
+        return new Faker(new SharedFakeValuesService(locale, randomService), randomService);
     }
 }
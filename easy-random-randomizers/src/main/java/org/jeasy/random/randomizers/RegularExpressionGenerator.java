@@ -0,0 +1,322 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.RegExp;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generator of strings matching a regular expression, compiled once per expression
+ * into an immutable graph of nodes (the states of the automaton of the expression).
+ *
+ * Strings are generated with the same walk as <a href="https://github.com/mifmif/Generex">Generex</a>
+ * (used by Faker), so the same random generator produces the same strings, but the
+ * expression is not parsed again and characters are appended to a reusable buffer.
+ * Transitions that can not lead to a string within the length bounds are not followed.
+ * A walk that does not end on a matching string is never returned.
+ *
+ * @author agent (agent@local)
+ */
+final class RegularExpressionGenerator {
+
+    static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    // same probability as Generex to stop on an accept state
+    private static final double STOP_THRESHOLD = 0.3 * Integer.MAX_VALUE;
+
+    // transitions followed by a walk within bounds before giving up: backtracking is exponential
+    // in the length when the lengths of matching strings have gaps (like ([0-9a-f]{2})+ with odd bounds)
+    private static final int MAX_TRANSITIONS = 10_000;
+
+    private static final Pattern QUOTED = Pattern.compile("\\\\Q(.*?)\\\\E");
+    private static final Pattern RESERVED = Pattern.compile("[.^$*+?(){|\\[\\\\@]");
+    private static final Map<Pattern, String> PREDEFINED_CHARACTER_CLASSES = new LinkedHashMap<>();
+
+    static {
+        PREDEFINED_CHARACTER_CLASSES.put(Pattern.compile("\\\\d"), "[0-9]");
+        PREDEFINED_CHARACTER_CLASSES.put(Pattern.compile("\\\\D"), "[^0-9]");
+        PREDEFINED_CHARACTER_CLASSES.put(Pattern.compile("\\\\s"), "[ \t\n\f\r]");
+        PREDEFINED_CHARACTER_CLASSES.put(Pattern.compile("\\\\S"), "[^ \t\n\f\r]");
+        PREDEFINED_CHARACTER_CLASSES.put(Pattern.compile("\\\\w"), "[a-zA-Z_0-9]");
+        PREDEFINED_CHARACTER_CLASSES.put(Pattern.compile("\\\\W"), "[^a-zA-Z_0-9]");
+    }
+
+    private static final ConcurrentHashMap<String, RegularExpressionGenerator> generators = new ConcurrentHashMap<>();
+
+    private final Node initialNode;
+
+    private RegularExpressionGenerator(final String regularExpression) {
+        Automaton automaton = new RegExp(toAutomatonSyntax(regularExpression)).toAutomaton();
+        initialNode = compile(automaton.getInitialState());
+    }
+
+    /**
+     * Get the generator of the given regular expression.
+     *
+     * @param regularExpression the regular expression, without boundary matchers
+     * @return the (cached) generator of the regular expression
+     */
+    static RegularExpressionGenerator of(final String regularExpression) {
+        return generators.computeIfAbsent(regularExpression, RegularExpressionGenerator::new);
+    }
+
+    /**
+     * Check if the regular expression may match strings of a length within the given bounds.
+     * Strings within bounds satisfying this check are not guaranteed to exist when the lengths
+     * of matching strings have gaps (like {@code ab|abcdef} with bounds [3, 5]).
+     *
+     * @param minLength the minimum length of strings
+     * @param maxLength the maximum length of strings
+     * @return false if no string matching the regular expression has a length within the bounds
+     */
+    boolean canGenerate(final int minLength, final int maxLength) {
+        return initialNode.canComplete(0, minLength, maxLength);
+    }
+
+    /**
+     * Generate a string matching the regular expression in the given buffer.
+     * When no string of a length within the bounds is found (or not quickly enough), the
+     * string is generated without bounds so that it still matches the regular expression.
+     *
+     * @param random    the random generator used to walk the automaton
+     * @param buffer    the buffer to generate the string in, cleared first
+     * @param minLength the minimum length of the string
+     * @param maxLength the maximum length of the string
+     */
+    void generate(final Random random, final StringBuilder buffer, final int minLength, final int maxLength) {
+        buffer.setLength(0);
+        if (!new Walk(random, buffer, minLength, maxLength, MAX_TRANSITIONS).from(initialNode)) {
+            buffer.setLength(0);
+            new Walk(random, buffer, 0, UNBOUNDED, UNBOUNDED).from(initialNode);
+        }
+    }
+
+    private static Node compile(final State initialState) {
+        Map<State, Node> nodes = new IdentityHashMap<>();
+        List<State> states = new ArrayList<>();
+        Deque<State> pending = new ArrayDeque<>();
+        nodes.put(initialState, new Node(initialState.isAccept()));
+        pending.add(initialState);
+        while (!pending.isEmpty()) {
+            State state = pending.poll();
+            states.add(state);
+            for (Transition transition : state.getTransitions()) {
+                State destination = transition.getDest();
+                if (!nodes.containsKey(destination)) {
+                    nodes.put(destination, new Node(destination.isAccept()));
+                    pending.add(destination);
+                }
+            }
+        }
+        for (State state : states) {
+            // same order as Generex
+            List<Transition> transitions = state.getSortedTransitions(false);
+            Node node = nodes.get(state);
+            node.mins = new char[transitions.size()];
+            node.maxs = new char[transitions.size()];
+            node.targets = new Node[transitions.size()];
+            for (int i = 0; i < transitions.size(); i++) {
+                Transition transition = transitions.get(i);
+                node.mins[i] = transition.getMin();
+                node.maxs[i] = transition.getMax();
+                node.targets[i] = nodes.get(transition.getDest());
+            }
+        }
+        computeShortestLengths(nodes.values());
+        for (Node node : nodes.values()) {
+            computeLongestLength(node);
+        }
+        return nodes.get(initialState);
+    }
+
+    private static void computeShortestLengths(final Iterable<Node> nodes) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Node node : nodes) {
+                for (Node target : node.targets) {
+                    if (target.shortest != UNBOUNDED && target.shortest + 1 < node.shortest) {
+                        node.shortest = target.shortest + 1;
+                        changed = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private static int computeLongestLength(final Node node) {
+        if (node.longest != Node.UNKNOWN) {
+            // UNBOUNDED if the node is being computed: it is on a cycle
+            return node.longest == Node.IN_PROGRESS ? UNBOUNDED : node.longest;
+        }
+        node.longest = Node.IN_PROGRESS;
+        int longest = node.accept ? 0 : -1;
+        for (Node target : node.targets) {
+            if (target.shortest == UNBOUNDED) {
+                continue; // dead end
+            }
+            int targetLongest = computeLongestLength(target);
+            longest = targetLongest == UNBOUNDED ? UNBOUNDED : Math.max(longest, targetLongest + 1);
+            if (longest == UNBOUNDED) {
+                break;
+            }
+        }
+        node.longest = longest;
+        return longest;
+    }
+
+    private static String toAutomatonSyntax(final String regularExpression) {
+        // same preprocessing as Generex: quoted sections and predefined character classes
+        Matcher matcher = QUOTED.matcher(regularExpression);
+        StringBuffer result = new StringBuffer();
+        while (matcher.find()) {
+            String quoted = RESERVED.matcher(matcher.group(1)).replaceAll("\\\\$0");
+            matcher.appendReplacement(result, Matcher.quoteReplacement(quoted));
+        }
+        matcher.appendTail(result);
+        String expression = result.toString();
+        for (Map.Entry<Pattern, String> characterClass : PREDEFINED_CHARACTER_CLASSES.entrySet()) {
+            expression = characterClass.getKey().matcher(expression).replaceAll(characterClass.getValue());
+        }
+        return expression;
+    }
+
+    /*
+     * Walk of the automaton generating a string in a buffer, following at most a given number of transitions.
+     */
+    private static final class Walk {
+
+        private final Random random;
+        private final StringBuilder buffer;
+        private final int minLength;
+        private final int maxLength;
+        private int remainingTransitions;
+
+        private Walk(final Random random, final StringBuilder buffer, final int minLength, final int maxLength,
+                     final int maxTransitions) {
+            this.random = random;
+            this.buffer = buffer;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.remainingTransitions = maxTransitions;
+        }
+
+        /*
+         * Walk the automaton from the given node, returns true if the walk ended on an accept state
+         * with a length within the bounds, false if it did not or if too many transitions were followed.
+         */
+        private boolean from(final Node node) {
+            int length = buffer.length();
+            int count = node.targets.length;
+            // transitions already tried, in a mask when there are at most 64 of them
+            long triedMask = 0L;
+            boolean[] tried = count > Long.SIZE ? new boolean[count] : null;
+            int triedCount = 0;
+            while (count > triedCount) {
+                if (node.accept) {
+                    if (length == maxLength) {
+                        return true;
+                    }
+                    if (random.nextInt() > STOP_THRESHOLD && length >= minLength) {
+                        return true;
+                    }
+                }
+                int index = random.nextInt(count);
+                if (tried == null) {
+                    long bit = 1L << index;
+                    if ((triedMask & bit) != 0) {
+                        continue;
+                    }
+                    triedMask |= bit;
+                } else {
+                    if (tried[index]) {
+                        continue;
+                    }
+                    tried[index] = true;
+                }
+                triedCount++;
+                Node target = node.targets[index];
+                if (!target.canComplete(length + 1, minLength, maxLength)) {
+                    continue;
+                }
+                if (remainingTransitions == 0) {
+                    return false;
+                }
+                if (remainingTransitions != UNBOUNDED) {
+                    remainingTransitions--;
+                }
+                buffer.append((char) (node.mins[index] + random.nextInt(node.maxs[index] - node.mins[index] + 1)));
+                if (from(target)) {
+                    return true;
+                }
+                if (remainingTransitions == 0) {
+                    return false;
+                }
+                buffer.setLength(length);
+            }
+            return node.accept && minLength <= length && length <= maxLength;
+        }
+    }
+
+    private static final class Node {
+
+        private static final int UNKNOWN = -2;
+        private static final int IN_PROGRESS = -3;
+
+        private final boolean accept;
+
+        // transitions of the state, a character in [mins[i], maxs[i]] leads to targets[i]
+        private char[] mins;
+        private char[] maxs;
+        private Node[] targets;
+
+        // lengths of the shortest and longest strings leading to an accept state
+        private int shortest;
+        private int longest = UNKNOWN;
+
+        private Node(final boolean accept) {
+            this.accept = accept;
+            this.shortest = accept ? 0 : UNBOUNDED;
+        }
+
+        private boolean canComplete(final int length, final int minLength, final int maxLength) {
+            return shortest != UNBOUNDED && (long) length + shortest <= maxLength
+                    && (longest == UNBOUNDED || (long) length + longest >= minLength);
+        }
+    }
+}
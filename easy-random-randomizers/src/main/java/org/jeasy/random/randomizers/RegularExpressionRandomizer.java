@@ -25,12 +25,25 @@ package org.jeasy.random.randomizers;
 
 import org.jeasy.random.api.Randomizer;
 
+import java.util.Random;
+
 /**
  * A {@link Randomizer} that generates random strings matching a regular expression.
+ *
+ * The regular expression is compiled once (and shared by all randomizers of the same
+ * expression), optionally with bounds on the length of generated strings.
  */
 public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
 
-    private final String regularExpression;
+    private final RegularExpressionGenerator generator;
+
+    private final int minLength;
+
+    private final int maxLength;
+
+    private final Random generationRandom = new Random();
+
+    private final StringBuilder buffer = new StringBuilder();
 
     /**
      * Create a new {@link RegularExpressionRandomizer}.
@@ -39,7 +52,9 @@ public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
      */
     public RegularExpressionRandomizer(final String regularExpression) {
         super();
-        this.regularExpression = regularExpression;
+        this.generator = RegularExpressionGenerator.of(removeLeadingAndTailingBoundaryMatchers(regularExpression));
+        this.minLength = 1;
+        this.maxLength = RegularExpressionGenerator.UNBOUNDED;
     }
 
     /**
@@ -49,8 +64,28 @@ public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
      * @param seed              the initial seed
      */
     public RegularExpressionRandomizer(final String regularExpression, final long seed) {
+        this(regularExpression, seed, 1, RegularExpressionGenerator.UNBOUNDED);
+    }
+
+    /**
+     * Create a new {@link RegularExpressionRandomizer}. Length bounds are honored as long as
+     * the regular expression matches strings of a length within them, they are ignored otherwise
+     * (generated strings always match the regular expression).
+     *
+     * @param regularExpression the regular expression which strings generated by this randomizer will match.
+     * @param seed              the initial seed
+     * @param minLength         the minimum length of generated strings
+     * @param maxLength         the maximum length of generated strings
+     */
+    public RegularExpressionRandomizer(final String regularExpression, final long seed, final int minLength, final int maxLength) {
         super(seed);
-        this.regularExpression = regularExpression;
+        if (minLength > maxLength) {
+            throw new IllegalArgumentException("minLength should be less than or equal to maxLength");
+        }
+        this.generator = RegularExpressionGenerator.of(removeLeadingAndTailingBoundaryMatchers(regularExpression));
+        boolean satisfiable = generator.canGenerate(minLength, maxLength);
+        this.minLength = satisfiable ? minLength : 0;
+        this.maxLength = satisfiable ? maxLength : RegularExpressionGenerator.UNBOUNDED;
     }
 
     /**
@@ -74,9 +109,26 @@ public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
         return new RegularExpressionRandomizer(regularExpression, seed);
     }
 
+    /**
+     * Create a new {@link RegularExpressionRandomizer}.
+     *
+     * @param regularExpression the regular expression which strings generated by this randomizer will match.
+     * @param seed              the initial seed
+     * @param minLength         the minimum length of generated strings
+     * @param maxLength         the maximum length of generated strings
+     * @return a new {@link RegularExpressionRandomizer}
+     */
+    public static RegularExpressionRandomizer aNewRegularExpressionRandomizer(final String regularExpression, final long seed,
+                                                                              final int minLength, final int maxLength) {
+        return new RegularExpressionRandomizer(regularExpression, seed, minLength, maxLength);
+    }
+
     @Override
     public String getRandomValue() {
-        return faker.regexify(removeLeadingAndTailingBoundaryMatchers(regularExpression));
+        // one seed per value, like Faker#regexify, so that seeded values are the same as with Faker
+        generationRandom.setSeed(random.nextLong());
+        generator.generate(generationRandom, buffer, minLength, maxLength);
+        return buffer.toString();
     }
 
     private static String removeLeadingAndTailingBoundaryMatchers(String regularExpression) {
@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import com.github.javafaker.service.FakeValuesService;
+import com.github.javafaker.service.RandomService;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link FakeValuesService} that reads the Faker dictionaries of a locale from a
+ * shared instance and uses its own {@link RandomService} to pick values.
+ *
+ * Dictionaries (YAML files) are loaded lazily, once per locale, by the shared
+ * instance. Only {@link #fetchObject(String)} reads the dictionaries, so creating
+ * a service for a new randomizer does not load nor hold any data. Values are
+ * fetched once per key from the shared instance and then read without locking.
+ *
+ * @author agent (agent@local)
+ */
+class SharedFakeValuesService extends FakeValuesService {
+
+    private static final ConcurrentHashMap<Locale, Dictionary> dictionaries = new ConcurrentHashMap<>();
+
+    private final Dictionary dictionary;
+
+    SharedFakeValuesService(final Locale locale, final RandomService randomService) {
+        super(locale, randomService);
+        this.dictionary = dictionaries.computeIfAbsent(locale, Dictionary::new);
+    }
+
+    /**
+     * Do not load the dictionaries of the locale in this instance, they are
+     * read from the shared one.
+     */
+    @Override
+    protected List<Locale> localeChain(final Locale locale) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Object fetchObject(final String key) {
+        return dictionary.fetchObject(key);
+    }
+
+    /*
+     * Values of the dictionaries of a locale by key. Values are never modified once loaded.
+     */
+    private static final class Dictionary {
+
+        // marker of keys missing from the dictionaries
+        private static final Object MISSING = new Object();
+
+        private final FakeValuesService service;
+        private final ConcurrentHashMap<String, Object> values = new ConcurrentHashMap<>();
+
+        private Dictionary(final Locale locale) {
+            service = new FakeValuesService(locale, new RandomService());
+        }
+
+        Object fetchObject(final String key) {
+            Object value = values.get(key);
+            if (value == null) {
+                // dictionaries are loaded on first access without synchronization in Faker
+                synchronized (this) {
+                    value = values.computeIfAbsent(key, k -> {
+                        Object fetched = service.fetchObject(k);
+                        return fetched != null ? fetched : MISSING;
+                    });
+                }
+            }
+            return value != MISSING ? value : null;
+        }
+    }
+}
@@ -23,9 +23,20 @@
  */
 package org.jeasy.random.randomizers;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Random;
+
+import com.github.javafaker.Faker;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class RegularExpressionRandomizerTest {
 
@@ -61,4 +72,91 @@ class RegularExpressionRandomizerTest {
 
         then(actual).isEqualTo("A");
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\\d+[A-Z]{5}", "[a-z]{4}", "(foo|bar)+\\.baz?", "\\w{2,8}-\\w+\\.(com|org)", "\\QA.B\\E[0-9]*"})
+    void generatedValuesShouldBeTheSameAsWithFaker(String regularExpression) {
+        //given
+        long seed = 123L;
+        RegularExpressionRandomizer randomizer = new RegularExpressionRandomizer(regularExpression, seed);
+        Faker faker = new Faker(Locale.ENGLISH, new Random(seed));
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            String actual = randomizer.getRandomValue();
+
+            then(actual).isEqualTo(faker.regexify(regularExpression));
+        }
+    }
+
+    @Test
+    void generatedValuesShouldHaveALengthWithinTheBounds() {
+        //given
+        RegularExpressionRandomizer randomizer = new RegularExpressionRandomizer("[a-z]+\\d*", 123L, 3, 5);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            String actual = randomizer.getRandomValue();
+
+            then(actual).matches("[a-z]+\\d*").hasSizeBetween(3, 5);
+        }
+    }
+
+    @Test
+    void lengthBoundsShouldBeHonoredWhenOnlySomeAlternativesAreWithinThem() {
+        //given
+        RegularExpressionRandomizer randomizer = new RegularExpressionRandomizer("[a-z]{2}|[0-9]{6}|[A-Z]{12}", 123L, 5, 8);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            String actual = randomizer.getRandomValue();
+
+            then(actual).matches("[0-9]{6}");
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"[a-z]{3}, 5, 10", "'x[0-9]{2,3}', 1, 2", "ab|abcdef, 3, 5"})
+    void generatedValuesShouldMatchTheExpressionWhenNoValueIsWithinTheBounds(String regularExpression, int minLength, int maxLength) {
+        //given
+        RegularExpressionRandomizer randomizer = new RegularExpressionRandomizer(regularExpression, 123L, minLength, maxLength);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            String actual = randomizer.getRandomValue();
+
+            then(actual).matches(regularExpression);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {25, 33, 101})
+    void valuesShouldBeGeneratedQuicklyWhenTheLengthsOfMatchingValuesHaveGaps(int length) {
+        //given
+        RegularExpressionRandomizer randomizer = new RegularExpressionRandomizer("([0-9a-f]{2})+", 1L, length, length);
+
+        //when
+        String actual = assertTimeout(Duration.ofSeconds(5), randomizer::getRandomValue);
+
+        //then
+        then(actual).matches("([0-9a-f]{2})+");
+    }
+
+    @Test
+    void minLengthShouldNotBeGreaterThanMaxLength() {
+        assertThatThrownBy(() -> new RegularExpressionRandomizer("[a-z]+", 123L, 5, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void randomizersOfTheSameExpressionShouldGenerateTheSameValuesWithTheSameSeed() {
+        //given
+        RegularExpressionRandomizer first = new RegularExpressionRandomizer("[A-Z][a-z]{3,10}", 42L);
+        RegularExpressionRandomizer second = new RegularExpressionRandomizer("[A-Z][a-z]{3,10}", 42L);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            assertThat(first.getRandomValue()).isEqualTo(second.getRandomValue());
+        }
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.github.javafaker.Faker;
+import com.github.javafaker.service.RandomService;
+import org.junit.jupiter.api.Test;
+
+class SharedFakeValuesServiceTest {
+
+    private static final long SEED = 123L;
+
+    @Test
+    void valuesShouldBeTheSameAsWithAPlainFaker() {
+        // given
+        Faker plainFaker = new Faker(Locale.FRENCH, new Random(SEED));
+        RandomService randomService = new RandomService(new Random(SEED));
+        Faker sharedFaker = new Faker(new SharedFakeValuesService(Locale.FRENCH, randomService), randomService);
+
+        // when / then
+        for (int i = 0; i < 10; i++) {
+            assertThat(sharedFaker.name().fullName()).isEqualTo(plainFaker.name().fullName());
+            assertThat(sharedFaker.address().city()).isEqualTo(plainFaker.address().city());
+            assertThat(sharedFaker.internet().emailAddress()).isEqualTo(plainFaker.internet().emailAddress());
+            assertThat(sharedFaker.phoneNumber().phoneNumber()).isEqualTo(plainFaker.phoneNumber().phoneNumber());
+        }
+    }
+
+    @Test
+    void randomizersWithTheSameSeedShouldGenerateTheSameValuesFromSharedDictionaries() {
+        // given
+        FirstNameRandomizer first = FirstNameRandomizer.aNewFirstNameRandomizer(SEED, Locale.GERMAN);
+        FirstNameRandomizer second = FirstNameRandomizer.aNewFirstNameRandomizer(SEED, Locale.GERMAN);
+
+        // when
+        String firstValue = first.getRandomValue();
+        String secondValue = second.getRandomValue();
+
+        // then
+        assertThat(firstValue).isEqualTo(secondValue);
+        assertThat(first.getRandomValue()).isEqualTo(second.getRandomValue());
+    }
+
+    @Test
+    void missingKeysShouldHaveNoValue() {
+        // given
+        SharedFakeValuesService service = new SharedFakeValuesService(Locale.ITALIAN, new RandomService(new Random(SEED)));
+
+        // when / then
+        assertThat(service.fetchObject("missing.key")).isNull();
+        assertThat(service.fetchObject("missing.key")).isNull();
+    }
+
+    @Test
+    void valuesShouldBeLoadedOnceWhenFetchedConcurrently() throws Exception {
+        // given
+        Locale locale = Locale.JAPANESE;
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            // when
+            List<Future<Object>> values = executorService.invokeAll(Collections.nCopies(8,
+                    () -> new SharedFakeValuesService(locale, new RandomService()).fetchObject("name.first_name")));
+
+            // then
+            Object value = values.get(0).get();
+            assertThat(value).isNotNull();
+            for (Future<Object> other : values) {
+                assertThat(other.get()).isSameAs(value);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}